@@ -8,6 +8,7 @@ import com.wingbank.config.applanguage.dto.AppLanguageResponse;
 import com.wingbank.config.applanguage.entity.AppLanguage;
 import com.wingbank.config.applanguage.repository.AppLanguageRepository;
 import com.wingbank.config.applanguage.service.AppLanguageService;
+import com.wingbank.config.common.util.SearchPlanning;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,10 +26,12 @@ import java.util.stream.Collectors;
 public class AppLanguageServiceImpl implements AppLanguageService {
 
     private final AppLanguageRepository appLanguageRepository;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<AppLanguageResponse> getAllLanguages(String search, String status, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<AppLanguage> languagePage = appLanguageRepository.findAllWithFilters(search, status, PageRequest.of(page, size));
         var content = languagePage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(languagePage, content);
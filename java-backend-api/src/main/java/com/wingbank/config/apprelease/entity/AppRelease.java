@@ -22,6 +22,10 @@ public class AppRelease extends AuditEntity {
     @Column(nullable = false)
     private String version;
 
+    /** Generated from {@code version} by the database; see {@code SemanticVersion}. */
+    @Column(name = "version_sort", insertable = false, updatable = false)
+    private Long versionSort;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Platform platform;
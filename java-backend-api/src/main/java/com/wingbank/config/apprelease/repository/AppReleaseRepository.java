@@ -17,7 +17,7 @@ public interface AppReleaseRepository extends JpaRepository<AppRelease, UUID> {
            "AND (:search IS NULL OR LOWER(version) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
            "AND (:platform IS NULL OR platform = CAST(:platform AS TEXT)) " +
            "AND (:status IS NULL OR status = CAST(:status AS TEXT)) " +
-           "ORDER BY released_at DESC NULLS LAST, created_at DESC",
+           "ORDER BY released_at DESC NULLS LAST, version_sort DESC, created_at DESC",
            countQuery = "SELECT COUNT(*) FROM app_releases WHERE deleted = false " +
            "AND (:search IS NULL OR LOWER(version) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
            "AND (:platform IS NULL OR platform = CAST(:platform AS TEXT)) " +
@@ -7,6 +7,7 @@ import com.wingbank.config.apprelease.repository.AppReleaseRepository;
 import com.wingbank.config.apprelease.service.AppReleaseService;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,10 +25,12 @@ import java.util.stream.Collectors;
 public class AppReleaseServiceImpl implements AppReleaseService {
 
     private final AppReleaseRepository appReleaseRepository;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<AppReleaseResponse> getAllReleases(String search, String platform, String status, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<AppRelease> releasePage = appReleaseRepository.findAllWithFilters(search, platform, status, PageRequest.of(page, size));
         var content = releasePage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(releasePage, content);
@@ -1,21 +1,29 @@
 package com.wingbank.config.audit.controller;
 
+import com.wingbank.config.audit.dto.AuditWriterStats;
 import com.wingbank.config.audit.entity.AuditLog;
+import com.wingbank.config.audit.service.AuditLogExporter;
 import com.wingbank.config.audit.service.AuditLogService;
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.dto.CursorResponse;
 import com.wingbank.config.common.dto.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @RestController
 @RequestMapping("/api/audit-logs")
@@ -24,6 +32,7 @@ import java.time.LocalDateTime;
 public class AuditLogController {
 
     private final AuditLogService auditLogService;
+    private final AuditLogExporter auditLogExporter;
 
     @GetMapping
     @PreAuthorize("hasAuthority('AUDIT_VIEW')")
@@ -39,4 +48,53 @@ public class AuditLogController {
         PagedResponse<AuditLog> auditLogs = auditLogService.getAuditLogs(search, entityType, action, from, to, page, size);
         return ResponseEntity.ok(ApiResponse.success(auditLogs));
     }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('AUDIT_VIEW')")
+    @Operation(summary = "Get audit logs with keyset pagination (pass nextCursor to continue)")
+    public ResponseEntity<ApiResponse<CursorResponse<AuditLog>>> getAuditLogsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        CursorResponse<AuditLog> auditLogs = auditLogService.getAuditLogsByCursor(search, entityType, action, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(auditLogs));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('AUDIT_VIEW')")
+    @Operation(summary = "Stream matching audit logs as NDJSON or CSV, optionally gzip-compressed")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        AuditLogExporter.Format exportFormat = AuditLogExporter.parseFormat(format);
+        String extension = exportFormat == AuditLogExporter.Format.CSV ? "csv" : "ndjson";
+        MediaType contentType = exportFormat == AuditLogExporter.Format.CSV
+                ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson");
+        String fileName = "audit-logs-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + "." + extension + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out ->
+                auditLogExporter.export(search, entityType, action, from, to, exportFormat, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasAuthority('AUDIT_VIEW')")
+    @Operation(summary = "Get audit writer queue and throughput counters")
+    public ResponseEntity<ApiResponse<AuditWriterStats>> getWriterStats() {
+        return ResponseEntity.ok(ApiResponse.success(auditLogService.getWriterStats()));
+    }
 }
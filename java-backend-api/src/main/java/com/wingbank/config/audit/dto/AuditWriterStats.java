@@ -0,0 +1,26 @@
+package com.wingbank.config.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditWriterStats {
+
+    private int queueDepth;
+    private int queueCapacity;
+    private long enqueued;
+    private long written;
+    /** Entries rejected because the queue stayed full for the whole offer timeout. */
+    private long dropped;
+    /** Entries lost because their batch insert failed. */
+    private long failed;
+    private long batches;
+    private LocalDateTime lastFlushAt;
+}
@@ -9,28 +9,28 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * {@code audit_logs} is range-partitioned by month on {@code created_at}. The date bounds are
+ * always applied (open ends become ±infinity) so PostgreSQL can prune partitions outside the
+ * window at executor start.
+ */
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
 
-    @Query(value = "SELECT * FROM audit_logs WHERE " +
-           "(:search IS NULL OR LOWER(user_email) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
+    /** Filter predicate shared by the listing, keyset and export queries. */
+    String FILTERS = "(:search IS NULL OR LOWER(user_email) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
            "OR LOWER(action) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
            "OR LOWER(entity_type) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
            "AND (:entityType IS NULL OR entity_type = CAST(:entityType AS TEXT)) " +
            "AND (:action IS NULL OR action = CAST(:action AS TEXT)) " +
-           "AND (CAST(:fromDate AS TIMESTAMP) IS NULL OR created_at >= CAST(:fromDate AS TIMESTAMP)) " +
-           "AND (CAST(:toDate AS TIMESTAMP) IS NULL OR created_at <= CAST(:toDate AS TIMESTAMP)) " +
-           "ORDER BY created_at DESC",
-           countQuery = "SELECT COUNT(*) FROM audit_logs WHERE " +
-           "(:search IS NULL OR LOWER(user_email) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(action) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(entity_type) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
-           "AND (:entityType IS NULL OR entity_type = CAST(:entityType AS TEXT)) " +
-           "AND (:action IS NULL OR action = CAST(:action AS TEXT)) " +
-           "AND (CAST(:fromDate AS TIMESTAMP) IS NULL OR created_at >= CAST(:fromDate AS TIMESTAMP)) " +
-           "AND (CAST(:toDate AS TIMESTAMP) IS NULL OR created_at <= CAST(:toDate AS TIMESTAMP))",
+           "AND created_at >= COALESCE(CAST(:fromDate AS TIMESTAMP), '-infinity') " +
+           "AND created_at <= COALESCE(CAST(:toDate AS TIMESTAMP), 'infinity')";
+
+    @Query(value = "SELECT * FROM audit_logs WHERE " + FILTERS + " ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM audit_logs WHERE " + FILTERS,
            nativeQuery = true)
     Page<AuditLog> findAllWithFilters(@Param("search") String search,
                                        @Param("entityType") String entityType,
@@ -38,4 +38,29 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
                                        @Param("fromDate") LocalDateTime from,
                                        @Param("toDate") LocalDateTime to,
                                        Pageable pageable);
+
+    /**
+     * Keyset page ordered by (created_at, id) descending: rows strictly after the cursor
+     * position, no OFFSET and no COUNT. A null cursor starts from the newest row.
+     */
+    @Query(value = "SELECT * FROM audit_logs WHERE " + FILTERS + " " +
+           "AND (created_at, id) < (COALESCE(CAST(:cursorCreatedAt AS TIMESTAMP), 'infinity'), " +
+           "COALESCE(CAST(:cursorId AS UUID), 'ffffffff-ffff-ffff-ffff-ffffffffffff')) " +
+           "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<AuditLog> findPageAfter(@Param("search") String search,
+                                 @Param("entityType") String entityType,
+                                 @Param("action") String action,
+                                 @Param("fromDate") LocalDateTime from,
+                                 @Param("toDate") LocalDateTime to,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") UUID cursorId,
+                                 @Param("limit") int limit);
+
+    /** Planner estimate of the row count across all partitions; no table scan. */
+    @Query(value = "SELECT CAST(COALESCE(SUM(GREATEST(c.reltuples, 0)), 0) AS BIGINT) " +
+           "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+           "WHERE i.inhparent = CAST('audit_logs' AS regclass)",
+           nativeQuery = true)
+    long estimateRowCount();
 }
@@ -0,0 +1,144 @@
+package com.wingbank.config.audit.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.audit.repository.AuditLogRepository;
+import com.wingbank.config.common.exception.BadRequestException;
+import com.wingbank.config.common.util.Csv;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams audit rows matching the {@link AuditLogRepository#FILTERS} semantics straight from
+ * a forward-only cursor to an output stream. Rows are fetched {@code FETCH_SIZE} at a time
+ * inside a read-only transaction (PostgreSQL only honours the fetch size with autocommit off)
+ * and are never collected, so memory stays flat however long the window is.
+ */
+@Component
+public class AuditLogExporter {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String[] COLUMNS = {"id", "created_at", "user_id", "user_email", "action",
+            "entity_type", "entity_id", "ip_address", "user_agent", "old_value", "new_value"};
+    private static final String SQL = "SELECT " + String.join(", ", COLUMNS) + " FROM audit_logs WHERE " +
+            AuditLogRepository.FILTERS + " ORDER BY created_at, id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AuditLogExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+    }
+
+    public static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
+
+    public void export(String search, String entityType, String action, LocalDateTime from, LocalDateTime to,
+                       Format format, boolean gzip, OutputStream out) throws IOException {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("search", search, Types.VARCHAR)
+                .addValue("entityType", entityType, Types.VARCHAR)
+                .addValue("action", action, Types.VARCHAR)
+                .addValue("fromDate", from != null ? Timestamp.valueOf(from) : null, Types.TIMESTAMP)
+                .addValue("toDate", to != null ? Timestamp.valueOf(to) : null, Types.TIMESTAMP);
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        try {
+            if (format == Format.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+                writer.write(String.join(",", COLUMNS));
+                writer.write("\r\n");
+                stream(params, rs -> writeCsvRow(rs, writer));
+                writer.flush();
+            } else {
+                JsonGenerator json = objectMapper.getFactory().createGenerator(target, JsonEncoding.UTF8);
+                json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+                stream(params, rs -> writeJsonRow(rs, json));
+                json.writeRaw('\n');
+                json.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+
+    private void stream(MapSqlParameterSource params, RowCallbackHandler handler) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(SQL, params, handler));
+    }
+
+    private static void writeCsvRow(ResultSet rs, Writer writer) throws SQLException {
+        try {
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                if (i > 1) writer.write(',');
+                String value = rs.getString(i);
+                if (value != null) writer.write(Csv.escape(value));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJsonRow(ResultSet rs, JsonGenerator json) throws SQLException {
+        try {
+            json.writeStartObject();
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                String value = rs.getString(i);
+                json.writeFieldName(COLUMNS[i - 1]);
+                if (value == null) {
+                    json.writeNull();
+                } else if (i >= COLUMNS.length - 1) {
+                    json.writeRawValue(value); // jsonb columns are already JSON
+                } else {
+                    json.writeString(value);
+                }
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.wingbank.config.audit.service;
 
+import com.wingbank.config.audit.dto.AuditWriterStats;
 import com.wingbank.config.audit.entity.AuditLog;
 import com.wingbank.config.audit.repository.AuditLogRepository;
+import com.wingbank.config.common.dto.CursorResponse;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.exception.BadRequestException;
+import com.wingbank.config.common.util.SearchPlanning;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -19,21 +27,64 @@ import java.time.LocalDateTime;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final SearchPlanning searchPlanning;
 
-    @Async
+    /** Hands the entry to the batched writer; never blocks on the database. */
     public void log(AuditLog auditLog) {
-        try {
-            auditLogRepository.save(auditLog);
-        } catch (Exception e) {
-            log.error("Failed to save audit log: {}", e.getMessage());
-        }
+        auditLogWriter.enqueue(auditLog);
+    }
+
+    public AuditWriterStats getWriterStats() {
+        return auditLogWriter.getStats();
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<AuditLog> getAuditLogs(String search, String entityType, String action,
                                                   LocalDateTime from, LocalDateTime to,
                                                   int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
+        searchPlanning.useCustomPlans();
         Page<AuditLog> auditPage = auditLogRepository.findAllWithFilters(search, entityType, action, from, to, pageable);
         return PagedResponse.from(auditPage, auditPage.getContent());
     }
+
+    public CursorResponse<AuditLog> getAuditLogsByCursor(String search, String entityType, String action,
+                                                         LocalDateTime from, LocalDateTime to,
+                                                         String cursor, int size) {
+        if (size < 1 || size > 500) {
+            throw new BadRequestException("size must be between 1 and 500");
+        }
+        LocalDateTime cursorCreatedAt = null;
+        UUID cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                cursorCreatedAt = LocalDateTime.parse(parts[0]);
+                cursorId = UUID.fromString(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        List<AuditLog> rows = auditLogRepository.findPageAfter(search, entityType, action, from, to,
+                cursorCreatedAt, cursorId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<AuditLog> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AuditLog last = content.get(content.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getCreatedAt() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        boolean unfiltered = search == null && entityType == null && action == null && from == null && to == null;
+        return CursorResponse.<AuditLog>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .estimatedTotal(cursorId == null && unfiltered ? auditLogRepository.estimateRowCount() : null)
+                .build();
+    }
 }
@@ -0,0 +1,250 @@
+package com.wingbank.config.audit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.audit.dto.AuditWriterStats;
+import com.wingbank.config.audit.entity.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounded in-memory queue in front of {@code audit_logs}. Callers only enqueue; a single
+ * background thread drains the queue and writes one multi-row INSERT per batch, flushing
+ * when a batch is full or {@code app.audit.flush-interval-ms} has passed. When the queue is
+ * full a caller waits at most {@code app.audit.offer-timeout-ms} before the entry is dropped
+ * and counted. The writer stops only after the web server has finished its graceful
+ * shutdown, and entries still queued then are flushed before the thread exits; anything
+ * enqueued once it has stopped (or before it started) is written inline by the caller.
+ * Entity diffs are queued as plain maps and serialized to JSON on the writer thread.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_logs (id, user_id, user_email, action, " +
+            "entity_type, entity_id, old_value, new_value, ip_address, user_agent, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Pending> queue;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastFlushAt = new AtomicReference<>();
+    private final Object inlineLock = new Object();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                          @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${app.audit.batch-size:500}") int batchSize,
+                          @Value("${app.audit.flush-interval-ms:1000}") long flushIntervalMs,
+                          @Value("${app.audit.offer-timeout-ms:5}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    /** Queue an entry for writing. Returns false if it was dropped because the queue is full. */
+    public boolean enqueue(AuditLog auditLog) {
+        return enqueue(auditLog, null, null);
+    }
+
+    /**
+     * Queue an entry whose {@code old_value}/{@code new_value} are built from the given maps
+     * when the batch is written. The maps must not be modified afterwards.
+     */
+    public boolean enqueue(AuditLog auditLog, Map<String, Object> oldValues, Map<String, Object> newValues) {
+        if (auditLog.getId() == null) {
+            auditLog.setId(UUID.randomUUID());
+        }
+        if (auditLog.getCreatedAt() == null) {
+            auditLog.setCreatedAt(LocalDateTime.now());
+        }
+        boolean accepted;
+        try {
+            accepted = queue.offer(new Pending(auditLog, oldValues, newValues), offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (accepted) {
+            enqueued.incrementAndGet();
+            if (!running) drainInline();
+        } else if (dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("Audit queue full ({} entries), dropped {} entries so far", queueCapacity, dropped.get());
+        }
+        return accepted;
+    }
+
+    public AuditWriterStats getStats() {
+        return AuditWriterStats.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queueCapacity)
+                .enqueued(enqueued.get())
+                .written(written.get())
+                .dropped(dropped.get())
+                .failed(failed.get())
+                .batches(batches.get())
+                .lastFlushAt(lastFlushAt.get())
+                .build();
+    }
+
+    /**
+     * Stops after the web server's graceful shutdown (which waits for in-flight requests)
+     * and after the web server itself, so requests still being served can enqueue.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) return;
+        worker.interrupt();
+        try {
+            worker.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                // Wait briefly for the batch to fill so bursts are written together
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // stop() was called; fall through to the final drain
+            }
+        }
+        // Clear a pending interrupt so the final inserts can still borrow a connection
+        Thread.interrupted();
+        flush(batch);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    /** Writes whatever is queued on the calling thread while no worker is draining. */
+    private void drainInline() {
+        synchronized (inlineLock) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(batch.size() * 11);
+        for (int i = 0; i < batch.size(); i++) {
+            AuditLog entry = batch.get(i).toAuditLog(objectMapper);
+            sql.append(i == 0 ? "" : ", ").append(ROW);
+            // Explicit SQL types: an untyped null would cost a parameter-metadata round trip
+            args.add(new SqlParameterValue(Types.OTHER, entry.getId()));
+            args.add(new SqlParameterValue(Types.OTHER, entry.getUserId()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getUserEmail()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getAction()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getEntityType()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getEntityId()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getOldValue()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getNewValue()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getIpAddress()));
+            args.add(new SqlParameterValue(Types.VARCHAR, entry.getUserAgent()));
+            args.add(new SqlParameterValue(Types.TIMESTAMP, Timestamp.valueOf(entry.getCreatedAt())));
+        }
+        try {
+            jdbcTemplate.update(sql.toString(), args.toArray());
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.error("Failed to write {} audit log entries: {}", batch.size(), e.getMessage());
+        } finally {
+            batches.incrementAndGet();
+            lastFlushAt.set(LocalDateTime.now());
+            batch.clear();
+        }
+    }
+
+    private record Pending(AuditLog auditLog, Map<String, Object> oldValues, Map<String, Object> newValues) {
+
+        AuditLog toAuditLog(ObjectMapper objectMapper) {
+            if (oldValues != null) auditLog.setOldValue(toJson(objectMapper, oldValues));
+            if (newValues != null) auditLog.setNewValue(toJson(objectMapper, newValues));
+            return auditLog;
+        }
+
+        private String toJson(ObjectMapper objectMapper, Map<String, Object> values) {
+            try {
+                return objectMapper.writeValueAsString(values);
+            } catch (JsonProcessingException e) {
+                log.warn("Unable to serialize audit diff for {} {}: {}",
+                        auditLog.getEntityType(), auditLog.getEntityId(), e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.wingbank.config.audit.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code audit_logs} rolling: partitions for the next
+ * {@code app.audit.partitions.months-ahead} months are created in advance, and months older
+ * than {@code app.audit.partitions.retention-months} are detached and, unless
+ * {@code keep-detached} is set, dropped. Whole partitions go away instead of a mass DELETE.
+ * A transaction-scoped advisory lock ensures only one instance does the work per run.
+ */
+@Component
+@Slf4j
+public class AuditPartitionManager {
+
+    private static final String PARENT = "audit_logs";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^audit_logs_(\\d{4})_(\\d{2})$");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM", Locale.ROOT);
+    private static final long LOCK_KEY = 0x6175646974L; // "audit"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean keepDetached;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 @Value("${app.audit.partitions.months-ahead:3}") int monthsAhead,
+                                 @Value("${app.audit.partitions.retention-months:24}") int retentionMonths,
+                                 @Value("${app.audit.partitions.keep-detached:false}") boolean keepDetached) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.keepDetached = keepDetached;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.audit.partitions.cron:0 15 2 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Audit partition maintenance already running on another instance");
+                    return;
+                }
+                List<String> existing = existingPartitions();
+                YearMonth current = YearMonth.now();
+                for (int i = 0; i <= monthsAhead; i++) {
+                    createIfMissing(current.plusMonths(i), existing);
+                }
+                if (retentionMonths > 0) {
+                    applyRetention(current.minusMonths(retentionMonths), existing);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private List<String> existingPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = CAST(? AS regclass)", String.class, PARENT);
+    }
+
+    private void createIfMissing(YearMonth month, List<String> existing) {
+        String name = PARENT + "_" + month.format(SUFFIX);
+        if (existing.contains(name)) return;
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                name, PARENT, month.atDay(1), month.plusMonths(1).atDay(1)));
+        log.info("Created audit log partition {}", name);
+    }
+
+    /** Detaches (and drops) every monthly partition that ends on or before {@code oldestKept}. */
+    private void applyRetention(YearMonth oldestKept, List<String> existing) {
+        for (String name : existing) {
+            Matcher m = PARTITION_NAME.matcher(name);
+            if (!m.matches()) continue;
+            YearMonth month = YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+            if (!month.isBefore(oldestKept)) continue;
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + name);
+            if (keepDetached) {
+                log.info("Detached audit log partition {} (kept for archiving)", name);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + name);
+                log.info("Dropped audit log partition {}", name);
+            }
+        }
+    }
+}
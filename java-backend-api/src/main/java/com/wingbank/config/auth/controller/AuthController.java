@@ -1,5 +1,8 @@
 package com.wingbank.config.auth.controller;
 
+import com.wingbank.config.auth.service.LoginThrottle;
+import com.wingbank.config.auth.service.PasswordVerifier;
+import com.wingbank.config.auth.service.RefreshTokenStore;
 import com.wingbank.config.common.dto.ApiResponse;
 import com.wingbank.config.common.exception.UnauthorizedException;
 import com.wingbank.config.security.dto.LoginRequest;
@@ -10,18 +13,15 @@ import com.wingbank.config.user.entity.User;
 import com.wingbank.config.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
@@ -34,19 +34,49 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
+    private static final String INVALID_CREDENTIALS = "Invalid email or password";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-    private static final int LOCK_DURATION_MINUTES = 30;
+    private final LoginThrottle loginThrottle;
+    private final PasswordVerifier passwordVerifier;
+    private final RefreshTokenStore refreshTokenStore;
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and generate tokens")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("Invalid email or password"));
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                            HttpServletRequest httpRequest) {
+        // Forwarded headers are only honoured from trusted proxies (server.forward-headers-strategy)
+        String clientIp = httpRequest.getRemoteAddr();
+        loginThrottle.checkIp(clientIp);
+
+        // Every path runs one BCrypt check, and a wrong password always gets the same message,
+        // so neither timing nor wording tells which emails have accounts. Account state is only
+        // reported to a caller who knows the password.
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        boolean passwordMatches = user != null
+                ? passwordVerifier.matches(request.getPassword(), user.getPassword())
+                : passwordVerifier.matchesNothing(request.getPassword());
+
+        if (!passwordMatches) {
+            if (user == null || user.isAccountLocked()) {
+                loginThrottle.recordFailure(request.getEmail(), clientIp);
+                throw new UnauthorizedException(INVALID_CREDENTIALS);
+            }
+            int attempts = loginThrottle.recordFailure(request.getEmail(), clientIp)
+                    .orElseGet(() -> countFailureInDatabase(user));
+            if (attempts >= loginThrottle.getMaxAttempts()) {
+                user.setFailedLoginAttempts(attempts);
+                user.setLockedUntil(LocalDateTime.now().plus(loginThrottle.getLockDuration()));
+                user.setStatus(User.Status.LOCKED);
+                userRepository.save(user);
+                loginThrottle.reset(request.getEmail());
+                log.warn("Account locked due to {} failed login attempts: {}", attempts, request.getEmail());
+            } else {
+                log.warn("Failed login attempt {} for user: {}", attempts, request.getEmail());
+            }
+            throw new UnauthorizedException(INVALID_CREDENTIALS);
+        }
 
         if (user.isAccountLocked()) {
             throw new UnauthorizedException("Account is locked. Please try again after " + user.getLockedUntil());
@@ -56,71 +86,62 @@ public class AuthController {
             throw new UnauthorizedException("Account is inactive. Please contact administrator");
         }
 
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-            );
-
+        loginThrottle.reset(request.getEmail());
+        // Only clear a lock that has lapsed; a clean account needs no write
+        if (user.getFailedLoginAttempts() != 0 || user.getLockedUntil() != null || user.getStatus() == User.Status.LOCKED) {
             user.setFailedLoginAttempts(0);
             user.setLockedUntil(null);
             user.setStatus(User.Status.ACTIVE);
-
-            String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-            String refreshToken = jwtTokenProvider.generateRefreshToken(request.getEmail());
-
-            user.setRefreshToken(refreshToken);
             userRepository.save(user);
+        }
 
-            LoginResponse loginResponse = buildLoginResponse(user, accessToken, refreshToken);
-            log.info("User logged in successfully: {}", request.getEmail());
-            return ResponseEntity.ok(ApiResponse.success("Login successful", loginResponse));
-
-        } catch (BadCredentialsException e) {
-            int attempts = user.getFailedLoginAttempts() + 1;
-            user.setFailedLoginAttempts(attempts);
-
-            if (attempts >= MAX_FAILED_ATTEMPTS) {
-                user.setLockedUntil(LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES));
-                user.setStatus(User.Status.LOCKED);
-                userRepository.save(user);
-                log.warn("Account locked due to {} failed login attempts: {}", attempts, request.getEmail());
-                throw new UnauthorizedException("Account has been locked for " + LOCK_DURATION_MINUTES + " minutes due to too many failed login attempts");
-            }
+        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail());
+        String refreshToken = refreshTokenStore.issue(user.getEmail(), request.getDeviceId());
 
-            userRepository.save(user);
-            log.warn("Failed login attempt {} for user: {}", attempts, request.getEmail());
-            throw new UnauthorizedException("Invalid email or password. " + (MAX_FAILED_ATTEMPTS - attempts) + " attempts remaining");
-        }
+        LoginResponse loginResponse = buildLoginResponse(user, accessToken, refreshToken);
+        log.info("User logged in successfully: {}", request.getEmail());
+        return ResponseEntity.ok(ApiResponse.success("Login successful", loginResponse));
     }
 
     @PostMapping("/refresh")
     @Operation(summary = "Refresh access token using refresh token")
     public ResponseEntity<ApiResponse<LoginResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
-
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(request.getRefreshToken());
+        if (rotation.status() == RefreshTokenStore.Status.REUSED) {
+            throw new UnauthorizedException("Refresh token has already been used. Please login again");
+        }
+        if (rotation.status() != RefreshTokenStore.Status.ROTATED) {
             throw new UnauthorizedException("Invalid or expired refresh token");
         }
 
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+        String email = rotation.email();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UnauthorizedException("User not found"));
 
-        if (user.getRefreshToken() == null || !user.getRefreshToken().equals(refreshToken)) {
-            throw new UnauthorizedException("Refresh token does not match. Please login again");
-        }
-
         String newAccessToken = jwtTokenProvider.generateAccessToken(email);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(email);
-
-        user.setRefreshToken(newRefreshToken);
-        userRepository.save(user);
 
-        LoginResponse loginResponse = buildLoginResponse(user, newAccessToken, newRefreshToken);
+        LoginResponse loginResponse = buildLoginResponse(user, newAccessToken, rotation.refreshToken());
         log.info("Tokens refreshed for user: {}", email);
         return ResponseEntity.ok(ApiResponse.success("Token refreshed successfully", loginResponse));
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke the session of a refresh token, or every session of its user")
+    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                                    @RequestParam(defaultValue = "false") boolean allDevices) {
+        String email = refreshTokenStore.revoke(request.getRefreshToken(), allDevices);
+        if (email != null) {
+            log.info("User logged out{}: {}", allDevices ? " from all devices" : "", email);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Logged out successfully", null));
+    }
+
+    /** Without Redis the account lock still has to trip, so count consecutive failures on the user row. */
+    private int countFailureInDatabase(User user) {
+        userRepository.incrementFailedLoginAttempts(user.getId());
+        return userRepository.findFailedLoginAttempts(user.getId());
+    }
+
     private LoginResponse buildLoginResponse(User user, String accessToken, String refreshToken) {
         var permissions = user.getRoles().stream()
                 .flatMap(role -> role.getPermissions().stream())
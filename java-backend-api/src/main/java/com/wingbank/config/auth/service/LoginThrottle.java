@@ -0,0 +1,108 @@
+package com.wingbank.config.auth.service;
+
+import com.wingbank.config.common.exception.TooManyRequestsException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Sliding-window counters of failed logins held in Redis, one sorted set per email and per
+ * client IP scored by attempt time. Failed attempts never touch the {@code users} row; the
+ * caller persists only the lock itself once an email reaches its limit. If Redis is
+ * unreachable the IP limit fails open and {@link #recordFailure} returns empty, so the caller
+ * must count the failure in the {@code users} row instead.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final String EMAIL_PREFIX = "login:failures:email:";
+    private static final String IP_PREFIX = "login:failures:ip:";
+
+    /** Adds one attempt to every key, trims the window and returns the count of the first key. */
+    private static final DefaultRedisScript<Long> RECORD_FAILURE = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            for _, key in ipairs(KEYS) do
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                redis.call('ZADD', key, now, ARGV[3])
+                redis.call('PEXPIRE', key, window)
+            end
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final int maxAttempts;
+    @Getter
+    private final Duration lockDuration;
+    private final Duration window;
+    private final int maxAttemptsPerIp;
+
+    public LoginThrottle(StringRedisTemplate redisTemplate,
+                         @Value("${app.security.max-login-attempts:5}") int maxAttempts,
+                         @Value("${app.security.lock-duration-minutes:30}") long lockDurationMinutes,
+                         @Value("${app.security.login.window-minutes:15}") long windowMinutes,
+                         @Value("${app.security.login.max-attempts-per-ip:50}") int maxAttemptsPerIp) {
+        this.redisTemplate = redisTemplate;
+        this.maxAttempts = maxAttempts;
+        this.lockDuration = Duration.ofMinutes(lockDurationMinutes);
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+    }
+
+    /** Rejects the attempt with 429 when the client IP has used up its failures for the window. */
+    public void checkIp(String ip) {
+        long now = System.currentTimeMillis();
+        Long failures;
+        try {
+            failures = redisTemplate.opsForZSet().count(IP_PREFIX + ip, now - window.toMillis(), Double.POSITIVE_INFINITY);
+        } catch (RuntimeException e) {
+            log.warn("Login throttle unavailable, allowing attempt: {}", e.getMessage());
+            return;
+        }
+        if (failures != null && failures >= maxAttemptsPerIp) {
+            throw new TooManyRequestsException("Too many failed login attempts. Please try again later",
+                    window.toSeconds());
+        }
+    }
+
+    /**
+     * Records a failed attempt and returns the number of failures for the email within the
+     * window, or empty if Redis could not count it.
+     */
+    public OptionalInt recordFailure(String email, String ip) {
+        long now = System.currentTimeMillis();
+        try {
+            Long failures = redisTemplate.execute(RECORD_FAILURE,
+                    List.of(EMAIL_PREFIX + normalize(email), IP_PREFIX + ip),
+                    String.valueOf(now), String.valueOf(window.toMillis()), now + ":" + UUID.randomUUID());
+            return failures != null ? OptionalInt.of(failures.intValue()) : OptionalInt.empty();
+        } catch (RuntimeException e) {
+            log.warn("Login throttle unavailable, failure not counted: {}", e.getMessage());
+            return OptionalInt.empty();
+        }
+    }
+
+    /** Forgets the failures of an email after a successful login or once its account is locked. */
+    public void reset(String email) {
+        try {
+            redisTemplate.delete(EMAIL_PREFIX + normalize(email));
+        } catch (RuntimeException e) {
+            log.warn("Login throttle unavailable, failures not reset: {}", e.getMessage());
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+package com.wingbank.config.auth.service;
+
+import com.wingbank.config.common.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt checks on a small fixed pool with a bounded queue. When the pool is saturated,
+ * or a check waits longer than {@code timeout-ms}, the attempt is rejected with 429 instead
+ * of tying up a servlet thread, so a login burst cannot starve the rest of the API.
+ */
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    /** Checked against for unknown emails so they cost the same BCrypt work as real ones. */
+    private final String dummyHash;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Value("${app.security.password-verification.threads:4}") int threads,
+                            @Value("${app.security.password-verification.queue-capacity:32}") int queueCapacity,
+                            @Value("${app.security.password-verification.timeout-ms:2000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw busy();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    /** Spends the time of a real check without a real hash; always false. */
+    public boolean matchesNothing(String rawPassword) {
+        matches(rawPassword, dummyHash);
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static TooManyRequestsException busy() {
+        return new TooManyRequestsException("Login service is busy. Please try again shortly", 1);
+    }
+}
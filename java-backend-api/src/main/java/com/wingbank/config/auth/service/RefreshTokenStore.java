@@ -0,0 +1,226 @@
+package com.wingbank.config.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens kept in Redis, replacing the single {@code users.refresh_token}
+ * column. Every login starts a rotation family (one per device); each refresh swaps the
+ * family's current token for a new one. Presenting a token that was already rotated out
+ * means it leaked, so the whole family is revoked. Only SHA-256 digests of tokens are
+ * stored, and every key expires with the refresh-token lifetime. A user keeps at most
+ * {@code app.jwt.max-sessions} families; a login beyond that ends the oldest one.
+ * <ul>
+ *   <li>{@code refresh:token:<digest>} hash: email, family</li>
+ *   <li>{@code refresh:family:<id>} hash: email, device, current digest, issued at</li>
+ *   <li>{@code refresh:sessions:<email>} hash: device → family id</li>
+ * </ul>
+ * The scripts touch only keys passed in KEYS: the family and sessions keys are read first
+ * and the script re-checks that they still apply.
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    public enum Status { ROTATED, REUSED, INVALID }
+
+    public record Rotation(Status status, String email, String refreshToken) {}
+
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String FAMILY_PREFIX = "refresh:family:";
+    private static final String SESSIONS_PREFIX = "refresh:sessions:";
+    private static final int ISSUE_ATTEMPTS = 3;
+
+    /**
+     * KEYS: sessions, family, token[, previous family]. ARGV: email, device, family id, digest,
+     * ttl ms, issued at, previous family id or empty. RETRY when the device's session changed.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ISSUE = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], ARGV[2]) or ''
+            if previous ~= ARGV[7] then
+                return {'RETRY'}
+            end
+            if previous ~= '' then
+                redis.call('DEL', KEYS[4])
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('HSET', KEYS[2], 'email', ARGV[1], 'device', ARGV[2], 'current', ARGV[4], 'issued', ARGV[6])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            redis.call('HSET', KEYS[3], 'email', ARGV[1], 'family', ARGV[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[5])
+            return {'ISSUED'}
+            """, List.class);
+
+    /** KEYS: presented token, new token, family, sessions. ARGV: presented digest, new digest, ttl ms, family id. */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'family') ~= ARGV[4] then
+                return {'INVALID'}
+            end
+            local email = redis.call('HGET', KEYS[1], 'email')
+            local current = redis.call('HGET', KEYS[3], 'current')
+            if not current then
+                return {'INVALID', email}
+            end
+            if current ~= ARGV[1] then
+                local device = redis.call('HGET', KEYS[3], 'device')
+                redis.call('DEL', KEYS[3])
+                if device and redis.call('HGET', KEYS[4], device) == ARGV[4] then
+                    redis.call('HDEL', KEYS[4], device)
+                end
+                return {'REUSED', email}
+            end
+            redis.call('HSET', KEYS[3], 'current', ARGV[2])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            redis.call('HSET', KEYS[2], 'email', email, 'family', ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[4], ARGV[3])
+            return {'ROTATED', email}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final int maxSessions;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${app.jwt.refresh-token-expiration}") long refreshTokenExpirationMs,
+                             @Value("${app.jwt.max-sessions:10}") int maxSessions) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(refreshTokenExpirationMs);
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Starts a new family for the user's device and returns its first token. {@code email} must be
+     * the stored address, as it is handed back unchanged by {@link #rotate}. A device that
+     * already had a session has it replaced; without a device id every login is its own session,
+     * and the oldest sessions are ended once the user has {@code max-sessions}.
+     */
+    public String issue(String email, String deviceId) {
+        String family = UUID.randomUUID().toString();
+        String device = deviceId != null && !deviceId.isBlank() ? deviceId : family;
+        String token = newToken();
+        String digest = digest(token);
+        String sessionsKey = SESSIONS_PREFIX + email;
+        for (int attempt = 0; attempt < ISSUE_ATTEMPTS; attempt++) {
+            Map<String, String> sessions = redisTemplate.<String, String>opsForHash().entries(sessionsKey);
+            String previous = sessions.get(device);
+            if (previous == null) {
+                evictOldest(sessionsKey, sessions, sessions.size() + 1 - maxSessions);
+            }
+            List<String> keys = new ArrayList<>(List.of(sessionsKey, FAMILY_PREFIX + family, TOKEN_PREFIX + digest));
+            if (previous != null) {
+                keys.add(FAMILY_PREFIX + previous);
+            }
+            List<?> result = redisTemplate.execute(ISSUE, keys, email, device, family, digest,
+                    String.valueOf(ttl.toMillis()), String.valueOf(System.currentTimeMillis()),
+                    previous != null ? previous : "");
+            if (!"RETRY".equals(result.get(0))) {
+                return token;
+            }
+        }
+        throw new IllegalStateException("Concurrent logins kept replacing the session of one device");
+    }
+
+    /** Exchanges a current token for the next one in its family. */
+    public Rotation rotate(String refreshToken) {
+        String presented = digest(refreshToken);
+        String presentedKey = TOKEN_PREFIX + presented;
+        List<String> owner = redisTemplate.<String, String>opsForHash().multiGet(presentedKey, List.of("family", "email"));
+        String family = owner.get(0);
+        String owningEmail = owner.get(1);
+        if (family == null || owningEmail == null) {
+            return new Rotation(Status.INVALID, null, null);
+        }
+        String token = newToken();
+        String next = digest(token);
+        List<?> result = redisTemplate.execute(ROTATE,
+                List.of(presentedKey, TOKEN_PREFIX + next, FAMILY_PREFIX + family, SESSIONS_PREFIX + owningEmail),
+                presented, next, String.valueOf(ttl.toMillis()), family);
+        Status status = Status.valueOf(String.valueOf(result.get(0)));
+        String email = result.size() > 1 ? String.valueOf(result.get(1)) : null;
+        if (status == Status.REUSED) {
+            log.warn("Refresh token reuse detected, session revoked for user: {}", email);
+        }
+        return new Rotation(status, email, status == Status.ROTATED ? token : null);
+    }
+
+    /**
+     * Ends the session the token belongs to, or every session of its user. Returns the user's
+     * email, or null if the token is unknown.
+     */
+    public String revoke(String refreshToken, boolean allDevices) {
+        String tokenKey = TOKEN_PREFIX + digest(refreshToken);
+        String family = (String) redisTemplate.opsForHash().get(tokenKey, "family");
+        String email = (String) redisTemplate.opsForHash().get(tokenKey, "email");
+        if (family == null || email == null) {
+            return null;
+        }
+        String sessionsKey = SESSIONS_PREFIX + email;
+        if (allDevices) {
+            List<String> families = redisTemplate.<String, String>opsForHash().values(sessionsKey);
+            redisTemplate.delete(families.stream().map(f -> FAMILY_PREFIX + f).toList());
+            redisTemplate.delete(sessionsKey);
+        } else {
+            String device = (String) redisTemplate.opsForHash().get(FAMILY_PREFIX + family, "device");
+            redisTemplate.delete(FAMILY_PREFIX + family);
+            if (device != null) {
+                redisTemplate.opsForHash().delete(sessionsKey, device);
+            }
+        }
+        return email;
+    }
+
+    /**
+     * Ends the {@code count} oldest sessions. Entries whose family already expired sort first,
+     * so stale devices are cleaned up before live sessions are ended.
+     */
+    private void evictOldest(String sessionsKey, Map<String, String> sessions, int count) {
+        if (count <= 0) return;
+        List<Map.Entry<String, String>> byAge = new ArrayList<>(sessions.entrySet());
+        Map<String, Long> issued = new HashMap<>();
+        for (Map.Entry<String, String> session : byAge) {
+            Object value = redisTemplate.opsForHash().get(FAMILY_PREFIX + session.getValue(), "issued");
+            issued.put(session.getKey(), value != null ? Long.parseLong(value.toString()) : 0L);
+        }
+        byAge.sort(Comparator.comparing(session -> issued.get(session.getKey())));
+        for (Map.Entry<String, String> session : byAge.subList(0, Math.min(count, byAge.size()))) {
+            redisTemplate.delete(FAMILY_PREFIX + session.getValue());
+            redisTemplate.opsForHash().delete(sessionsKey, session.getKey());
+        }
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
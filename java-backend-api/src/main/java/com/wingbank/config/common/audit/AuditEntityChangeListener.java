@@ -0,0 +1,297 @@
+package com.wingbank.config.common.audit;
+
+import com.wingbank.config.audit.entity.AuditLog;
+import com.wingbank.config.audit.service.AuditLogWriter;
+import com.wingbank.config.security.authorization.AuthorizedUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.ManyToOneType;
+import org.hibernate.type.Type;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Records every committed insert, update and delete of an {@link AuditEntity} in
+ * {@code audit_logs}. Only scalar properties that actually changed are captured; they are
+ * handed to the {@link AuditLogWriter} as plain maps and serialized on its thread, so the
+ * request pays for a few map entries and a queue offer. A soft delete is logged as DELETE.
+ * <p>
+ * Language value rows ({@code TranslationValue}, {@code Wing*Translation}, ...) are not audit
+ * entities themselves, but they belong to one through a many-to-one. Their changes are logged
+ * against that owner under {@code <property>.<languageCode>} keys, and everything that
+ * happened to one owner in a transaction ends up in a single row, so an edit of only the
+ * Khmer text is still audited and shows up in the diff.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditEntityChangeListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("createdAt", "updatedAt", "createdBy");
+    private static final Pattern SENSITIVE_PROPERTY = Pattern.compile("(?i).*(password|token|secret).*");
+    private static final String MASK = "***";
+    private static final String LANGUAGE_CODE = "languageCode";
+    private static final int NO_OWNER = -1;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogWriter auditLogWriter;
+
+    /** Index of the owning audit entity property per child entity name. */
+    private final Map<String, Integer> ownerProperties = new ConcurrentHashMap<>();
+    /** Changes of the transaction currently completing on this thread. */
+    private final ThreadLocal<Batch> pending = new ThreadLocal<>();
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AuditEntity.class.isAssignableFrom(persister.getMappedClass()) || ownerProperty(persister) != NO_OWNER;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof AuditEntity entity) {
+            batch(event.getSession()).change(entity.getClass(), event.getId())
+                    .apply("CREATE", null, values(event.getPersister(), event.getState()));
+        } else {
+            recordChild(event.getSession(), event.getPersister(), null, event.getState());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof AuditEntity entity)) {
+            if (event.getOldState() != null) {
+                recordChild(event.getSession(), event.getPersister(), event.getOldState(), event.getState());
+            }
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        Object[] oldState = event.getOldState();
+        Object[] state = event.getState();
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (!isAudited(names[i], types[i])) continue;
+            Object before = oldState != null ? oldState[i] : null;
+            if (oldState != null && Objects.equals(before, state[i])) continue;
+            if (oldState != null) oldValues.put(names[i], mask(names[i], before));
+            newValues.put(names[i], mask(names[i], state[i]));
+        }
+        String action = entity.isDeleted() && Boolean.FALSE.equals(oldValues.get("deleted")) ? "DELETE" : "UPDATE";
+        batch(event.getSession()).change(entity.getClass(), event.getId()).apply(action, oldValues, newValues);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof AuditEntity entity) {
+            batch(event.getSession()).change(entity.getClass(), event.getId())
+                    .apply("DELETE", values(event.getPersister(), event.getDeletedState()), null);
+        } else {
+            recordChild(event.getSession(), event.getPersister(), event.getDeletedState(), null);
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, so there is nothing to audit
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    /**
+     * Adds the changed properties of a language value row to its owner's entry. A null
+     * {@code oldState} is an insert and a null {@code state} a delete.
+     */
+    private void recordChild(EventSource session, EntityPersister persister, Object[] oldState, Object[] state) {
+        int ownerIndex = ownerProperty(persister);
+        Object[] current = state != null ? state : oldState;
+        Object owner = current[ownerIndex];
+        if (owner == null) return;
+
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        int languageIndex = List.of(names).indexOf(LANGUAGE_CODE);
+        String suffix = languageIndex >= 0 ? "." + current[languageIndex] : "";
+
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (i == languageIndex || !isAudited(names[i], types[i])) continue;
+            Object before = oldState != null ? oldState[i] : null;
+            Object after = state != null ? state[i] : null;
+            if (oldState != null && state != null && Objects.equals(before, after)) continue;
+            if (oldState != null && (state != null || before != null)) {
+                oldValues.put(names[i] + suffix, mask(names[i], before));
+            }
+            if (state != null && (oldState != null || after != null)) {
+                newValues.put(names[i] + suffix, mask(names[i], after));
+            }
+        }
+        if (oldValues.isEmpty() && newValues.isEmpty()) return;
+
+        Object ownerId = owner instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getIdentifier()
+                : ((AuditEntity) owner).getId();
+        batch(session).change(Hibernate.getClassLazy(owner), ownerId).apply(null, oldValues, newValues);
+    }
+
+    private int ownerProperty(EntityPersister persister) {
+        return ownerProperties.computeIfAbsent(persister.getEntityName(), name -> {
+            if (AuditEntity.class.isAssignableFrom(persister.getMappedClass())) return NO_OWNER;
+            Type[] types = persister.getPropertyTypes();
+            for (int i = 0; i < types.length; i++) {
+                if (types[i] instanceof ManyToOneType type && AuditEntity.class.isAssignableFrom(type.getReturnedClass())) {
+                    return i;
+                }
+            }
+            return NO_OWNER;
+        });
+    }
+
+    /**
+     * The batch of the session whose transaction is completing. The first change registers a
+     * completion process behind the entity actions that are still being drained, so the
+     * merged rows are written once every post-commit event of the transaction has arrived.
+     */
+    private Batch batch(EventSource session) {
+        Batch batch = pending.get();
+        if (batch == null || batch.session != session) {
+            Batch created = new Batch(session);
+            pending.set(created);
+            session.getActionQueue().registerProcess((success, s) -> flush(created));
+            batch = created;
+        }
+        return batch;
+    }
+
+    private void flush(Batch batch) {
+        if (pending.get() == batch) pending.remove();
+        batch.changes.values().forEach(this::record);
+    }
+
+    /** Non-null audited properties of a full state array. */
+    private Map<String, Object> values(EntityPersister persister, Object[] state) {
+        if (state == null) return null;
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (state[i] != null && isAudited(names[i], types[i])) {
+                values.put(names[i], mask(names[i], state[i]));
+            }
+        }
+        return values;
+    }
+
+    private static boolean isAudited(String name, Type type) {
+        return !type.isAssociationType() && !IGNORED_PROPERTIES.contains(name);
+    }
+
+    private static Object mask(String name, Object value) {
+        return value != null && SENSITIVE_PROPERTY.matcher(name).matches() ? MASK : value;
+    }
+
+    private void record(Change change) {
+        AuditLog.AuditLogBuilder builder = AuditLog.builder()
+                .action(change.action != null ? change.action : "UPDATE")
+                .entityType(change.entityType)
+                .entityId(String.valueOf(change.id));
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            builder.userEmail(authentication.getName());
+            if (authentication.getPrincipal() instanceof AuthorizedUser user) {
+                builder.userId(user.getUserId());
+            }
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            // Proxy headers are already resolved into the remote address by the container
+            HttpServletRequest request = attributes.getRequest();
+            builder.ipAddress(request.getRemoteAddr())
+                    .userAgent(request.getHeader("User-Agent"));
+        }
+        auditLogWriter.enqueue(builder.build(),
+                change.oldValues.isEmpty() ? null : change.oldValues,
+                change.newValues.isEmpty() ? null : change.newValues);
+    }
+
+    private static final class Batch {
+        private final EventSource session;
+        private final Map<String, Change> changes = new LinkedHashMap<>();
+
+        private Batch(EventSource session) {
+            this.session = session;
+        }
+
+        private Change change(Class<?> type, Object id) {
+            String entityType = type.getSimpleName();
+            return changes.computeIfAbsent(entityType + ":" + id, key -> new Change(entityType, id));
+        }
+    }
+
+    /** Everything that happened to one audited row in a transaction. */
+    private static final class Change {
+        private final String entityType;
+        private final Object id;
+        private final Map<String, Object> oldValues = new LinkedHashMap<>();
+        private final Map<String, Object> newValues = new LinkedHashMap<>();
+        private String action;
+
+        private Change(String entityType, Object id) {
+            this.entityType = entityType;
+            this.id = id;
+        }
+
+        /** Merges one event; CREATE and DELETE win over UPDATE, a null action only adds values. */
+        private void apply(String action, Map<String, Object> oldValues, Map<String, Object> newValues) {
+            if (action != null && (this.action == null || this.action.equals("UPDATE"))) {
+                this.action = action;
+            }
+            if (oldValues != null) oldValues.forEach(this.oldValues::putIfAbsent);
+            if (newValues != null) this.newValues.putAll(newValues);
+        }
+    }
+}
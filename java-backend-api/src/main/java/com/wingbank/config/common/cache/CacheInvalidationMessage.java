@@ -0,0 +1,19 @@
+package com.wingbank.config.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Broadcast on the cache invalidation channel whenever a node writes or evicts a key.
+ * A null {@code key} means the whole cache was cleared.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String nodeId;
+    private String cache;
+    private String key;
+}
@@ -0,0 +1,23 @@
+package com.wingbank.config.common.cache;
+
+public final class CacheNames {
+
+    private CacheNames() {}
+
+    /** Key: exact translation platform value → catalog entries of that platform only. */
+    public static final String TRANSLATIONS = "translations";
+
+    /** Single key {@link #KEY_ACTIVE} → active countries. */
+    public static final String COUNTRIES = "countries";
+
+    /** Key: exact config platform value → active config key/value pairs of that platform only. */
+    public static final String GLOBAL_CONFIGS = "globalConfigs";
+
+    /** Single key {@link #KEY_ALL} → error code → language → message. */
+    public static final String API_MESSAGES = "apiMessages";
+
+    public static final String MOBILE_CONFIG = "mobileConfig";
+
+    public static final String KEY_ACTIVE = "ACTIVE";
+    public static final String KEY_ALL = "ALL";
+}
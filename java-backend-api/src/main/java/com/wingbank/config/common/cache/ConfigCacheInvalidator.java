@@ -0,0 +1,79 @@
+package com.wingbank.config.common.cache;
+
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps every committed {@link ConfigChangedEvent} to the exact cache entries it affects
+ * and evicts them. Eviction happens after commit so a concurrent reader cannot
+ * repopulate an entry from the old rows, and is repeated once after a short delay to
+ * drop anything a reader that started before the commit wrote back late.
+ */
+@Component
+@Slf4j
+public class ConfigCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final Duration secondEvictionDelay;
+
+    public ConfigCacheInvalidator(CacheManager cacheManager, TaskScheduler taskScheduler,
+                                  @Value("${app.cache.second-eviction-delay-ms:2000}") long secondEvictionDelayMs) {
+        this.cacheManager = cacheManager;
+        this.taskScheduler = taskScheduler;
+        this.secondEvictionDelay = Duration.ofMillis(secondEvictionDelayMs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        List<CacheKeys> targets = targetsOf(event);
+        if (targets.isEmpty()) return;
+
+        evict(targets);
+        taskScheduler.schedule(() -> evict(targets), Instant.now().plus(secondEvictionDelay));
+    }
+
+    private List<CacheKeys> targetsOf(ConfigChangedEvent event) {
+        return switch (event.getDataset()) {
+            case TRANSLATION -> List.of(new CacheKeys(CacheNames.TRANSLATIONS, event.getPlatforms()));
+            case GLOBAL_CONFIG -> List.of(new CacheKeys(CacheNames.GLOBAL_CONFIGS, event.getPlatforms()));
+            case COUNTRY -> List.of(new CacheKeys(CacheNames.COUNTRIES, Set.of(CacheNames.KEY_ACTIVE)));
+            case API_MESSAGE -> List.of(new CacheKeys(CacheNames.API_MESSAGES, Set.of(CacheNames.KEY_ALL)));
+            case WING_PLUS -> List.of();
+        };
+    }
+
+    private void evict(List<CacheKeys> targets) {
+        for (CacheKeys target : targets) {
+            Cache cache = cacheManager.getCache(target.cacheName());
+            if (cache == null) continue;
+            try {
+                if (target.keys().isEmpty()) {
+                    // Unscoped change: the affected keys are unknown
+                    cache.clear();
+                } else {
+                    target.keys().forEach(cache::evict);
+                }
+                log.debug("Evicted {} {}", target.cacheName(), target.keys().isEmpty() ? "(all)" : target.keys());
+            } catch (RuntimeException e) {
+                log.warn("Cache eviction failed for {}: {}", target.cacheName(), e.getMessage());
+            }
+        }
+    }
+
+    private record CacheKeys(String cacheName, Set<String> keys) {}
+}
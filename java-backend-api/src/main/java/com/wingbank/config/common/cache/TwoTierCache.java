@@ -0,0 +1,110 @@
+package com.wingbank.config.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A node-local Caffeine L1 in front of a shared Redis L2. Reads fill L1 from L2; writes
+ * and evictions go to L2 first, then L1, and are broadcast so that every other node
+ * drops its L1 copy of the key. L1 hands out the same instance to every caller, so
+ * cached values must be treated as read-only.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final TwoTierCacheManager manager;
+
+    TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                 Cache remote, TwoTierCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, new SimpleValueWrapper(wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = remote.get(key, valueLoader);
+        local.put(localKey, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        manager.publishInvalidation(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        manager.publishInvalidation(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishInvalidation(name, null);
+    }
+
+    /** Drop local entries only; used when another node reports a change. */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wingbank.config.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wraps the Redis cache manager with a bounded Caffeine tier per node. L1 coherence
+ * across replicas is kept by Redis pub/sub: each write or eviction publishes a
+ * {@link CacheInvalidationMessage} and every other node drops its L1 entry. The short
+ * L1 TTL bounds staleness if a message is ever lost.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper, String channel,
+                               long localMaximumSize, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(n,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                remote, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    void publishInvalidation(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Other nodes fall back to the L1 TTL
+            log.warn("Failed to publish cache invalidation for {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+            if (nodeId.equals(invalidation.getNodeId())) {
+                return;
+            }
+            TwoTierCache cache = caches.get(invalidation.getCache());
+            if (cache != null) {
+                cache.invalidateLocal(invalidation.getKey());
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+        }
+    }
+}
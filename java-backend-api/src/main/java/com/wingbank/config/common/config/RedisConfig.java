@@ -1,12 +1,25 @@
 package com.wingbank.config.common.config;
 
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.wingbank.config.common.cache.CacheNames;
+import com.wingbank.config.common.cache.TwoTierCacheManager;
+import com.wingbank.config.mobile.snapshot.MobileConfigSnapshotSource;
+import com.wingbank.config.security.service.PrincipalCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
@@ -14,20 +27,66 @@ import java.time.Duration;
 @Configuration
 public class RedisConfig {
 
+    /**
+     * Redis (L2) shared by all nodes behind a per-node Caffeine L1; see TwoTierCacheManager.
+     * TTLs are a safety net only: every admin mutation evicts the exact keys it
+     * affects (see ConfigCacheInvalidator), so entries can live for hours.
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                           StringRedisTemplate redisTemplate,
+                                           ObjectMapper objectMapper,
+                                           @Value("${app.cache.invalidation-channel:config-cache-invalidation}") String channel,
+                                           @Value("${app.cache.local.maximum-size:1000}") long localMaximumSize,
+                                           @Value("${app.cache.local.ttl-seconds:300}") long localTtlSeconds) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer()));
+                                new GenericJackson2JsonRedisSerializer(cacheObjectMapper())));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
-                .withCacheConfiguration("translations", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofHours(1)))
-                .withCacheConfiguration("countries", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofHours(2)))
-                .withCacheConfiguration("globalConfigs", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(15)))
-                .withCacheConfiguration("mobileConfig", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(10)))
+                .withCacheConfiguration(CacheNames.TRANSLATIONS, config.entryTtl(Duration.ofHours(12)))
+                .withCacheConfiguration(CacheNames.COUNTRIES, config.entryTtl(Duration.ofHours(12)))
+                .withCacheConfiguration(CacheNames.GLOBAL_CONFIGS, config.entryTtl(Duration.ofHours(6)))
+                .withCacheConfiguration(CacheNames.API_MESSAGES, config.entryTtl(Duration.ofHours(12)))
+                .withCacheConfiguration(CacheNames.MOBILE_CONFIG, config.entryTtl(Duration.ofHours(12))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(smileObjectMapper(), MobileConfigSnapshotSource.class))))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, objectMapper, channel,
+                localMaximumSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, TwoTierCacheManager cacheManager, PrincipalCache principalCache,
+            @Value("${app.cache.invalidation-channel:config-cache-invalidation}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(channel));
+        container.addMessageListener(principalCache, new ChannelTopic(principalCache.getChannel()));
+        return container;
+    }
+
+    /** Compact binary encoding for the large, fixed-type mobile config snapshot. */
+    private ObjectMapper smileObjectMapper() {
+        return SmileMapper.builder()
+                .findAndAddModules()
+                .build();
+    }
+
+    private ObjectMapper cacheObjectMapper() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        return mapper;
     }
 }
@@ -0,0 +1,38 @@
+package com.wingbank.config.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk upsert, with one entry per submitted item in request order. Failed items
+ * are left untouched; every other item is written in the same transaction.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResult {
+
+    public enum Status { CREATED, UPDATED, FAILED }
+
+    private int total;
+    private int created;
+    private int updated;
+    private int failed;
+    private List<Item> items;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        private int index;
+        private UUID id;
+        private Status status;
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.wingbank.config.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** One entry of a bulk upsert: updates the entity with {@code id}, or creates one when it is null. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpsertItem<T> {
+    private UUID id;
+    private T data;
+}
@@ -0,0 +1,37 @@
+package com.wingbank.config.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Rows that failed validation are skipped and listed in
+ * {@code errors} (the first {@code MAX_ERRORS} only); every other row is written.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+
+    public static final int MAX_ERRORS = 100;
+
+    private long total;
+    private long created;
+    private long updated;
+    private long unchanged;
+    private long skipped;
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private long row;
+        private String key;
+        private String message;
+    }
+}
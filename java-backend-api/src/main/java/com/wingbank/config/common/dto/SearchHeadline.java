@@ -0,0 +1,9 @@
+package com.wingbank.config.common.dto;
+
+import java.util.UUID;
+
+/** HTML snippet of a row's text with the search matches wrapped in {@code <b>}; the text is escaped. */
+public interface SearchHeadline {
+    UUID getId();
+    String getHeadline();
+}
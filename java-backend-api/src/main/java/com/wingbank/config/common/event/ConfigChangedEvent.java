@@ -0,0 +1,37 @@
+package com.wingbank.config.common.event;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published by admin services after a create/update/delete so that
+ * in-memory and cached views of the dataset can be refreshed.
+ * {@link #getPlatforms()} lists the platform values touched by the change
+ * (before and after an update); it is empty for datasets that are not
+ * partitioned by platform.
+ */
+@Getter
+public class ConfigChangedEvent {
+
+    private final ConfigDataset dataset;
+    private final Set<String> platforms;
+
+    public ConfigChangedEvent(ConfigDataset dataset) {
+        this(dataset, Set.of());
+    }
+
+    private ConfigChangedEvent(ConfigDataset dataset, Set<String> platforms) {
+        this.dataset = dataset;
+        this.platforms = platforms;
+    }
+
+    public static ConfigChangedEvent forPlatforms(ConfigDataset dataset, String... platforms) {
+        return new ConfigChangedEvent(dataset, Arrays.stream(platforms)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
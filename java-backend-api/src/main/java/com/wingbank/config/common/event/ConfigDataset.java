@@ -0,0 +1,13 @@
+package com.wingbank.config.common.event;
+
+/**
+ * Groups of configuration data that are served to mobile clients and
+ * can be invalidated independently when an admin changes them.
+ */
+public enum ConfigDataset {
+    TRANSLATION,
+    API_MESSAGE,
+    COUNTRY,
+    GLOBAL_CONFIG,
+    WING_PLUS
+}
@@ -0,0 +1,33 @@
+package com.wingbank.config.common.event;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published after a change to users, roles or permissions that can alter the authorities of
+ * an authenticated principal. {@link #getEmails()} lists the affected users; it is empty when
+ * the change may touch any user (a role or permission change).
+ */
+@Getter
+public class PrincipalChangedEvent {
+
+    private final Set<String> emails;
+
+    private PrincipalChangedEvent(Set<String> emails) {
+        this.emails = emails;
+    }
+
+    public static PrincipalChangedEvent forUsers(String... emails) {
+        return new PrincipalChangedEvent(Arrays.stream(emails)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public static PrincipalChangedEvent all() {
+        return new PrincipalChangedEvent(Set.of());
+    }
+}
@@ -0,0 +1,82 @@
+package com.wingbank.config.common.transfer;
+
+import com.wingbank.config.common.dto.ImportResult;
+import com.wingbank.config.common.exception.BadRequestException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Drives a bulk import: validates rows as they are read, keeps the last occurrence of each
+ * identity within a chunk, and hands full chunks to the writer. Must run inside the caller's
+ * transaction so a failed chunk rolls back the whole import.
+ */
+public final class ChunkedImport {
+
+    /** Writes one chunk of valid, distinct rows. */
+    public interface ChunkWriter {
+        /** Returns {created, updated} for the chunk. */
+        long[] write(List<LanguageRow> rows);
+    }
+
+    private ChunkedImport() {}
+
+    /**
+     * @param maxRows   rows allowed in one import; more fails it with {@link BadRequestException}
+     * @param validator returns an error message for an invalid row, or null
+     * @param identity  the natural key a row upserts; also reported with errors
+     */
+    public static ImportResult run(LanguageRowReader reader, int chunkSize, int maxRows,
+                                   Function<LanguageRow, String> validator, Function<LanguageRow, String> identity,
+                                   ChunkWriter writer) throws IOException {
+        long total = 0;
+        long created = 0;
+        long updated = 0;
+        long written = 0;
+        long skipped = 0;
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        Map<String, LanguageRow> chunk = new LinkedHashMap<>();
+
+        LanguageRow row;
+        while ((row = reader.next()) != null) {
+            if (++total > maxRows) {
+                throw new BadRequestException("Import is limited to " + maxRows + " rows; split it into smaller files");
+            }
+            String error = validator.apply(row);
+            if (error != null) {
+                skipped++;
+                if (errors.size() < ImportResult.MAX_ERRORS) {
+                    errors.add(new ImportResult.RowError(row.number(), identity.apply(row), error));
+                }
+                continue;
+            }
+            chunk.put(identity.apply(row), row);
+            if (chunk.size() >= chunkSize) {
+                long[] counts = writer.write(new ArrayList<>(chunk.values()));
+                created += counts[0];
+                updated += counts[1];
+                written += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            long[] counts = writer.write(new ArrayList<>(chunk.values()));
+            created += counts[0];
+            updated += counts[1];
+            written += chunk.size();
+        }
+
+        return ImportResult.builder()
+                .total(total)
+                .created(created)
+                .updated(updated)
+                .unchanged(written - created - updated)
+                .skipped(skipped)
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.wingbank.config.common.transfer;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * One record of a bulk import: the dataset's own columns plus a value per language code.
+ * {@code number} is the 1-based position of the record in the file, excluding any header.
+ */
+public record LanguageRow(long number, Map<String, String> fields, Map<String, String> values) {
+
+    private static final Pattern LANGUAGE_CODE = Pattern.compile("^[a-z]{2,3}([-_][a-zA-Z0-9]{2,8})?$");
+
+    /** Trimmed field value, or null when missing or blank. */
+    public String field(String name) {
+        String value = fields.get(name);
+        if (value == null) return null;
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    public static boolean isLanguageCode(String code) {
+        return code != null && code.length() <= 10 && LANGUAGE_CODE.matcher(code).matches();
+    }
+}
@@ -0,0 +1,148 @@
+package com.wingbank.config.common.transfer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.common.exception.BadRequestException;
+import com.wingbank.config.common.util.Csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads {@link LanguageRow}s one at a time from an upload, so only the current record is in
+ * memory whatever the file size.
+ * <ul>
+ *   <li>CSV: a header row naming the dataset's fields and one column per language code.</li>
+ *   <li>JSON: an array of objects holding the fields and a {@code values} object keyed by
+ *   language code.</li>
+ * </ul>
+ * Structural problems (bad header, malformed JSON) end the import with a
+ * {@link BadRequestException}; field-level validation is left to the caller.
+ */
+public abstract class LanguageRowReader implements Closeable {
+
+    protected final Set<String> fieldNames;
+    protected long count;
+
+    protected LanguageRowReader(Set<String> fieldNames) {
+        this.fieldNames = fieldNames;
+    }
+
+    public static LanguageRowReader open(InputStream in, TransferFormat format, Set<String> fieldNames,
+                                         ObjectMapper objectMapper) throws IOException {
+        return format == TransferFormat.CSV
+                ? new CsvRowReader(in, fieldNames)
+                : new JsonRowReader(in, fieldNames, objectMapper);
+    }
+
+    /** The next row, or null at the end of the input. */
+    public abstract LanguageRow next() throws IOException;
+
+    private static final class CsvRowReader extends LanguageRowReader {
+
+        private final BufferedReader reader;
+        private final Csv.RecordReader records;
+        private List<String> header;
+
+        CsvRowReader(InputStream in, Set<String> fieldNames) {
+            super(fieldNames);
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+            this.records = new Csv.RecordReader(reader);
+        }
+
+        @Override
+        public LanguageRow next() throws IOException {
+            if (header == null) {
+                header = records.next();
+                if (header == null) return null;
+                header = header.stream().map(String::trim).toList();
+                for (String column : header) {
+                    if (!fieldNames.contains(column) && !LanguageRow.isLanguageCode(column)) {
+                        throw new BadRequestException("Unknown column '" + column + "'; expected one of "
+                                + fieldNames + " or a language code");
+                    }
+                }
+            }
+            List<String> record = records.next();
+            if (record == null) return null;
+
+            Map<String, String> fields = new HashMap<>();
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                String column = header.get(i);
+                String cell = Csv.unescapeFormula(record.get(i));
+                if (fieldNames.contains(column)) {
+                    fields.put(column, cell);
+                } else if (!cell.isEmpty()) {
+                    values.put(column, cell);
+                }
+            }
+            return new LanguageRow(++count, fields, values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class JsonRowReader extends LanguageRowReader {
+
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+
+        JsonRowReader(InputStream in, Set<String> fieldNames, ObjectMapper objectMapper) throws IOException {
+            super(fieldNames);
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Expected a JSON array of records");
+            }
+        }
+
+        @Override
+        public LanguageRow next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) return null;
+            if (token != JsonToken.START_OBJECT) {
+                throw new BadRequestException("Record " + (count + 1) + " is not a JSON object");
+            }
+            JsonNode node = objectMapper.readTree(parser);
+
+            Map<String, String> fields = new HashMap<>();
+            for (String name : fieldNames) {
+                JsonNode value = node.get(name);
+                if (value != null && !value.isNull()) fields.put(name, value.asText());
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            JsonNode valuesNode = node.get("values");
+            if (valuesNode != null && valuesNode.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> it = valuesNode.fields();
+                while (it.hasNext()) {
+                    Map.Entry<String, JsonNode> entry = it.next();
+                    if (!entry.getValue().isNull() && !entry.getValue().asText().isEmpty()) {
+                        values.put(entry.getKey(), entry.getValue().asText());
+                    }
+                }
+            }
+            return new LanguageRow(++count, fields, values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.wingbank.config.common.transfer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.common.dto.ImportResult;
+import com.wingbank.config.common.exception.BadRequestException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Shared plumbing for bulk import/export of a dataset whose rows carry one value per
+ * language in a child table. Imports run in a single transaction and write each chunk with
+ * a few multi-row statements; exports stream from a forward-only cursor inside a read-only
+ * transaction, like the audit log export.
+ */
+public abstract class LanguageRowTransfer {
+
+    protected static final int CHUNK_SIZE = 1000;
+    /** An import holds one transaction open; beyond these it has to be split into several uploads. */
+    protected static final int MAX_IMPORT_ROWS = 100_000;
+    protected static final long MAX_IMPORT_BYTES = 50L * 1024 * 1024;
+    private static final int FETCH_SIZE = 1000;
+    /** Keeps a multi-row statement well under PostgreSQL's 65535 bind parameter limit. */
+    private static final int MAX_VALUE_ROWS = 5000;
+    private static final TypeReference<Map<String, String>> VALUES_TYPE = new TypeReference<>() {};
+
+    protected final JdbcTemplate jdbcTemplate;
+    protected final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate cursorTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+
+    protected LanguageRowTransfer(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        JdbcTemplate cursor = new JdbcTemplate(dataSource);
+        cursor.setFetchSize(FETCH_SIZE);
+        this.cursorTemplate = new NamedParameterJdbcTemplate(cursor);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reads, validates and writes the upload in one transaction. {@code afterWrite} runs in the
+     * same transaction once everything is written, so events it publishes fire on commit.
+     * Uploads over {@link #MAX_IMPORT_BYTES} or {@link #MAX_IMPORT_ROWS} are rejected and
+     * nothing is written.
+     */
+    protected ImportResult runImport(InputStream in, TransferFormat format, Set<String> fieldNames,
+                                     Function<LanguageRow, String> validator, Function<LanguageRow, String> identity,
+                                     ChunkedImport.ChunkWriter writer, Runnable afterWrite) {
+        try {
+            return writeTransaction.execute(status -> {
+                try (LanguageRowReader reader = LanguageRowReader.open(
+                        new LimitedInputStream(in, MAX_IMPORT_BYTES), format, fieldNames, objectMapper)) {
+                    ImportResult result = ChunkedImport.run(reader, CHUNK_SIZE, MAX_IMPORT_ROWS, validator, identity, writer);
+                    afterWrite.run();
+                    return result;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw new BadRequestException("Unable to read " + format + " upload: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Streams every row of {@code rowsSql} to {@code out}. The query must select the fields in
+     * {@code fieldNames} order followed by one JSON object column of language → value.
+     */
+    protected void runExport(OutputStream out, TransferFormat format, List<String> fieldNames, String languagesSql,
+                             String rowsSql, MapSqlParameterSource params) throws IOException {
+        try {
+            readTransaction.executeWithoutResult(status -> {
+                List<String> languages = new ArrayList<>(jdbcTemplate.queryForList(languagesSql, String.class));
+                // English first, as in the admin screens
+                if (languages.remove("en")) languages.add(0, "en");
+                try {
+                    LanguageRowWriter writer = LanguageRowWriter.open(out, format, fieldNames, languages, objectMapper);
+                    cursorTemplate.query(rowsSql, params, rs -> {
+                        List<Object> fields = new ArrayList<>(fieldNames.size());
+                        for (int i = 1; i <= fieldNames.size(); i++) {
+                            fields.add(rs.getObject(i));
+                        }
+                        String json = rs.getString(fieldNames.size() + 1);
+                        try {
+                            writer.write(fields, json != null ? objectMapper.readValue(json, VALUES_TYPE) : Map.of());
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * Upserts the language values of a chunk into {@code valueTable}, resolving each parent by
+     * its natural key columns. Values that did not change are not rewritten; absent languages
+     * are left alone. Returns the ids of parents that had a value inserted or changed.
+     *
+     * @param parentKey maps a row to its natural key values, in {@code keyColumns} order
+     */
+    protected Set<UUID> upsertValues(List<LanguageRow> rows, String parentTable, List<String> keyColumns,
+                                     Function<LanguageRow, List<String>> parentKey,
+                                     String valueTable, String foreignKey, String valueColumn) {
+        Set<UUID> changed = new HashSet<>();
+        String columns = String.join(", ", keyColumns);
+        String tuple = "(" + "?, ".repeat(keyColumns.size()) + "?, ?)";
+        String join = keyColumns.stream().map(c -> "p." + c + " = v." + c).reduce((a, b) -> a + " AND " + b).orElseThrow();
+
+        StringBuilder sql = null;
+        List<Object> args = new ArrayList<>();
+        int tuples = 0;
+        for (LanguageRow row : rows) {
+            List<String> key = parentKey.apply(row);
+            for (Map.Entry<String, String> value : row.values().entrySet()) {
+                if (sql == null) {
+                    sql = new StringBuilder("INSERT INTO ").append(valueTable)
+                            .append(" (").append(foreignKey).append(", language_code, ").append(valueColumn).append(") ")
+                            .append("SELECT p.id, v.language_code, v.value FROM (VALUES ");
+                }
+                sql.append(tuples == 0 ? "" : ", ").append(tuple);
+                key.forEach(k -> args.add(new SqlParameterValue(Types.VARCHAR, k)));
+                args.add(new SqlParameterValue(Types.VARCHAR, value.getKey()));
+                args.add(new SqlParameterValue(Types.VARCHAR, value.getValue()));
+                if (++tuples >= MAX_VALUE_ROWS) {
+                    changed.addAll(flushValues(sql, args, parentTable, columns, join, foreignKey, valueTable, valueColumn));
+                    sql = null;
+                    args.clear();
+                    tuples = 0;
+                }
+            }
+        }
+        if (sql != null) {
+            changed.addAll(flushValues(sql, args, parentTable, columns, join, foreignKey, valueTable, valueColumn));
+        }
+        return changed;
+    }
+
+    private List<UUID> flushValues(StringBuilder sql, List<Object> args, String parentTable, String columns,
+                                   String join, String foreignKey, String valueTable, String valueColumn) {
+        sql.append(") AS v(").append(columns).append(", language_code, value) JOIN ").append(parentTable)
+                .append(" p ON ").append(join)
+                .append(" ON CONFLICT (").append(foreignKey).append(", language_code) DO UPDATE SET ")
+                .append(valueColumn).append(" = EXCLUDED.").append(valueColumn)
+                .append(" WHERE ").append(valueTable).append('.').append(valueColumn)
+                .append(" IS DISTINCT FROM EXCLUDED.").append(valueColumn)
+                .append(" RETURNING ").append(foreignKey);
+        return jdbcTemplate.queryForList(sql.toString(), UUID.class, args.toArray());
+    }
+
+    /** Counts recorded as the {@code new_value} of the IMPORT audit entry. */
+    protected static Map<String, Object> summary(ImportResult result) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", result.getTotal());
+        summary.put("created", result.getCreated());
+        summary.put("updated", result.getUpdated());
+        summary.put("skipped", result.getSkipped());
+        return summary;
+    }
+
+    protected static SqlParameterValue text(String value) {
+        return new SqlParameterValue(Types.VARCHAR, value);
+    }
+
+    protected static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    /** Fails the import once more than {@code limit} bytes have been read. */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long read;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) count(n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) {
+            read += n;
+            if (read > limit) {
+                throw new BadRequestException("Upload exceeds " + (limit / (1024 * 1024)) + " MB; split it into smaller files");
+            }
+        }
+    }
+}
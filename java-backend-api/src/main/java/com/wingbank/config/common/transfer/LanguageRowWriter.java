@@ -0,0 +1,112 @@
+package com.wingbank.config.common.transfer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.common.util.Csv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/** Writes rows in the layout {@link LanguageRowReader} reads, so an export can be re-imported as is. */
+public abstract class LanguageRowWriter {
+
+    protected final List<String> fieldNames;
+    protected final List<String> languages;
+
+    protected LanguageRowWriter(List<String> fieldNames, List<String> languages) {
+        this.fieldNames = fieldNames;
+        this.languages = languages;
+    }
+
+    /**
+     * @param languages the language columns of a CSV export, in order; JSON writes whatever
+     *                  values each row has
+     */
+    public static LanguageRowWriter open(OutputStream out, TransferFormat format, List<String> fieldNames,
+                                         List<String> languages, ObjectMapper objectMapper) throws IOException {
+        return format == TransferFormat.CSV
+                ? new CsvRowWriter(out, fieldNames, languages)
+                : new JsonRowWriter(out, fieldNames, languages, objectMapper);
+    }
+
+    /** Writes one row; {@code fields} are in {@code fieldNames} order. */
+    public abstract void write(List<Object> fields, Map<String, String> values) throws IOException;
+
+    /** Completes the document and flushes it without closing the stream. */
+    public abstract void finish() throws IOException;
+
+    private static final class CsvRowWriter extends LanguageRowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out, List<String> fieldNames, List<String> languages) throws IOException {
+            super(fieldNames, languages);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writeRecord(fieldNames.stream().map(Object.class::cast).toList(), languages);
+        }
+
+        @Override
+        public void write(List<Object> fields, Map<String, String> values) throws IOException {
+            writeRecord(fields, languages.stream().map(values::get).toList());
+        }
+
+        private void writeRecord(List<Object> fields, List<String> values) throws IOException {
+            boolean first = true;
+            for (Object field : fields) {
+                if (!first) writer.write(',');
+                if (field != null) writer.write(Csv.escape(String.valueOf(field)));
+                first = false;
+            }
+            for (String value : values) {
+                if (!first) writer.write(',');
+                if (value != null) writer.write(Csv.escape(value));
+                first = false;
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class JsonRowWriter extends LanguageRowWriter {
+
+        private final JsonGenerator json;
+
+        JsonRowWriter(OutputStream out, List<String> fieldNames, List<String> languages,
+                      ObjectMapper objectMapper) throws IOException {
+            super(fieldNames, languages);
+            this.json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            json.writeStartArray();
+        }
+
+        @Override
+        public void write(List<Object> fields, Map<String, String> values) throws IOException {
+            json.writeStartObject();
+            for (int i = 0; i < fieldNames.size(); i++) {
+                json.writeObjectField(fieldNames.get(i), fields.get(i));
+            }
+            json.writeObjectFieldStart("values");
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                json.writeStringField(entry.getKey(), entry.getValue());
+            }
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            json.writeEndArray();
+            json.flush();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.wingbank.config.common.transfer;
+
+import com.wingbank.config.common.exception.BadRequestException;
+
+import java.util.Locale;
+
+/** File formats accepted by the bulk import and export endpoints. */
+public enum TransferFormat {
+    CSV("text/csv", "csv"),
+    JSON("application/json", "json");
+
+    private final String mediaType;
+    private final String extension;
+
+    TransferFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static TransferFormat parse(String format) {
+        try {
+            return TransferFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported format: " + format);
+        }
+    }
+}
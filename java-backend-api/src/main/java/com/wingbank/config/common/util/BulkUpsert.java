@@ -0,0 +1,120 @@
+package com.wingbank.config.common.util;
+
+import com.wingbank.config.common.audit.AuditEntity;
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
+import com.wingbank.config.common.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Drives a bulk upsert of {@link AuditEntity} aggregates: every target is loaded with a single
+ * query, each item is validated and applied in memory, and the changed aggregates are saved
+ * together so Hibernate writes them in JDBC batches at flush. Must run inside the caller's
+ * transaction. Each item's data goes through bean validation and then the caller's checks;
+ * items that fail are reported and skipped without touching anything.
+ */
+public final class BulkUpsert {
+
+    public static final int MAX_ITEMS = 1000;
+
+    /** Rejects an item by throwing {@link BadRequestException}; must not modify any entity. */
+    public interface Validator<R> {
+        /** @param id the target id, or null when the item creates a new entity */
+        void validate(UUID id, R request);
+    }
+
+    private BulkUpsert() {}
+
+    /**
+     * @param constraints bean validation applied to each item's data, as {@code @Valid} would
+     * @param loader  loads the targets with their translations, e.g. an {@code @EntityGraph} finder
+     * @param applier copies a validated request onto a new or loaded entity
+     * @param saver   saves the created and updated entities in one call
+     */
+    public static <E extends AuditEntity, R> BulkResult run(List<BulkUpsertItem<R>> items,
+                                                            jakarta.validation.Validator constraints,
+                                                            Function<Collection<UUID>, List<E>> loader,
+                                                            Supplier<E> factory, Validator<R> validator,
+                                                            BiConsumer<E, R> applier, Consumer<List<E>> saver) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("No items to upsert");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new BadRequestException("At most " + MAX_ITEMS + " items can be upserted at once");
+        }
+
+        Set<UUID> ids = items.stream().filter(Objects::nonNull).map(BulkUpsertItem::getId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, E> existing = ids.isEmpty() ? Map.of() : loader.apply(ids).stream()
+                .collect(Collectors.toMap(AuditEntity::getId, e -> e));
+
+        List<BulkResult.Item> results = new ArrayList<>(items.size());
+        List<E> changed = new ArrayList<>(items.size());
+        Map<E, BulkResult.Item> createdItems = new IdentityHashMap<>();
+        Set<UUID> seen = new HashSet<>();
+        int failed = 0;
+        for (int i = 0; i < items.size(); i++) {
+            BulkUpsertItem<R> item = items.get(i);
+            UUID id = item != null ? item.getId() : null;
+            E entity;
+            try {
+                if (item == null || item.getData() == null) {
+                    throw new BadRequestException("Item data is required");
+                }
+                if (id != null && !existing.containsKey(id)) {
+                    throw new BadRequestException("No entity with id " + id);
+                }
+                if (id != null && !seen.add(id)) {
+                    throw new BadRequestException("Duplicate id " + id + " in request");
+                }
+                Set<ConstraintViolation<R>> violations = constraints.validate(item.getData());
+                if (!violations.isEmpty()) {
+                    throw new BadRequestException(violations.stream()
+                            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                            .sorted().collect(Collectors.joining("; ")));
+                }
+                validator.validate(id, item.getData());
+                entity = id != null ? existing.get(id) : factory.get();
+            } catch (BadRequestException | IllegalArgumentException e) {
+                failed++;
+                results.add(new BulkResult.Item(i, id, BulkResult.Status.FAILED, e.getMessage()));
+                continue;
+            }
+            applier.accept(entity, item.getData());
+            changed.add(entity);
+            BulkResult.Item result = new BulkResult.Item(i, id,
+                    id != null ? BulkResult.Status.UPDATED : BulkResult.Status.CREATED, null);
+            if (id == null) createdItems.put(entity, result);
+            results.add(result);
+        }
+
+        if (!changed.isEmpty()) {
+            saver.accept(changed);
+        }
+        // Ids are assigned on persist, so created items only learn theirs after the save
+        createdItems.forEach((entity, result) -> result.setId(entity.getId()));
+
+        return BulkResult.builder()
+                .total(items.size())
+                .created(createdItems.size())
+                .updated(changed.size() - createdItems.size())
+                .failed(failed)
+                .items(results)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.wingbank.config.common.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Minimal RFC 4180 support: quoting on write and a streaming record reader. */
+public final class Csv {
+
+    private Csv() {}
+
+    /**
+     * Quotes a cell when needed. A cell that a spreadsheet would evaluate as a formula (leading
+     * {@code = + - @}, tab or carriage return) is written with a leading {@code '} so it opens
+     * as text; {@link #unescapeFormula} undoes this on import. A value that already has
+     * apostrophes in front of such a character gets one more, so the two are exact inverses.
+     */
+    public static String escape(String value) {
+        if (isFormulaStart(value, 0)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /** Drops the {@code '} that {@link #escape} put in front of a formula-like cell. */
+    public static String unescapeFormula(String value) {
+        return value.startsWith("'") && isFormulaStart(value, 1) ? value.substring(1) : value;
+    }
+
+    /** Whether the cell reads as a formula once any apostrophes from {@code index} are skipped. */
+    private static boolean isFormulaStart(String value, int index) {
+        while (index < value.length() && value.charAt(index) == '\'') {
+            index++;
+        }
+        if (value.length() <= index) return false;
+        char first = value.charAt(index);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    /**
+     * Reads one record at a time from a character stream. Quoted fields may contain commas,
+     * doubled quotes and line breaks; CRLF and LF both end a record, and a leading byte
+     * order mark (as written by Excel) is skipped.
+     */
+    public static class RecordReader {
+
+        private final Reader reader;
+        private boolean started;
+        private int pushedBack = -2;
+
+        public RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /** The next record, or null at the end of the input. Blank lines are skipped. */
+        public List<String> next() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+            } while (record != null && record.size() == 1 && record.get(0).isEmpty());
+            return record;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = read();
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') c = read();
+            }
+            if (c == -1) return null;
+
+            List<String> record = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) throw new IOException("Unterminated quoted field");
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    record.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') pushedBack = next;
+                    }
+                    record.add(field.toString());
+                    return record;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.wingbank.config.common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Has the admin list queries planned for the parameters they are called with. Their optional
+ * filters are written as {@code (:x IS NULL OR ...)}, which a cached generic plan has to keep
+ * as an OR and cannot answer from an index; a custom plan folds the unused branch away. The
+ * setting is transaction-local, so it never outlives the list call on a pooled connection.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchPlanning {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Equivalent of {@code SET LOCAL plan_cache_mode = force_custom_plan}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void useCustomPlans() {
+        jdbcTemplate.queryForObject("SELECT set_config('plan_cache_mode', 'force_custom_plan', true)", String.class);
+    }
+}
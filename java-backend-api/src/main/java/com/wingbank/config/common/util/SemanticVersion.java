@@ -0,0 +1,79 @@
+package com.wingbank.config.common.util;
+
+/**
+ * Lenient major.minor.patch version as used by translations, global configs and app
+ * releases. Parsing mirrors the {@code semver_sort_key} database function: an optional
+ * leading "v" is ignored, anything from the first character that is not a digit or dot is
+ * dropped ("2.1.0-beta" → 2.1.0), missing parts are 0 and each part is capped at 999999.
+ */
+public final class SemanticVersion implements Comparable<SemanticVersion> {
+
+    private static final long MAX_PART = 999_999L;
+    private static final long PART_RANGE = 1_000_000L;
+
+    private final long major;
+    private final long minor;
+    private final long patch;
+
+    private SemanticVersion(long major, long minor, long patch) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+    }
+
+    public static SemanticVersion parse(String version) {
+        long[] parts = new long[3];
+        if (version != null) {
+            String core = version.trim().toLowerCase();
+            if (core.startsWith("v")) {
+                core = core.substring(1);
+            }
+            int part = 0;
+            for (int i = 0; i < core.length() && part < 3; i++) {
+                char c = core.charAt(i);
+                if (c == '.') {
+                    part++;
+                } else if (c >= '0' && c <= '9') {
+                    parts[part] = Math.min(parts[part] * 10 + (c - '0'), MAX_PART);
+                } else {
+                    break;
+                }
+            }
+        }
+        return new SemanticVersion(parts[0], parts[1], parts[2]);
+    }
+
+    /** Same value as the {@code version_sort} column; null for a null version. */
+    public static Long sortKey(String version) {
+        return version == null ? null : parse(version).sortKey();
+    }
+
+    public long sortKey() {
+        return (major * PART_RANGE + minor) * PART_RANGE + patch;
+    }
+
+    /** True when {@code version} is not null and not newer than {@code max}. */
+    public static boolean isAtMost(String version, long maxSortKey) {
+        return version != null && parse(version).sortKey() <= maxSortKey;
+    }
+
+    @Override
+    public int compareTo(SemanticVersion other) {
+        return Long.compare(sortKey(), other.sortKey());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SemanticVersion other && sortKey() == other.sortKey();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sortKey());
+    }
+
+    @Override
+    public String toString() {
+        return major + "." + minor + "." + patch;
+    }
+}
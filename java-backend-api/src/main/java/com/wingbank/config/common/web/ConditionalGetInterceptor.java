@@ -0,0 +1,170 @@
+package com.wingbank.config.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves {@link VersionedResponse} endpoints from the {@link ResponseVersionRegistry} before
+ * the controller runs: a matching {@code If-None-Match} gets 304, anything else gets the
+ * pre-serialized (and, when accepted, pre-deflated) envelope with a fresh timestamp spliced
+ * onto its end, written straight to the response. Only a cache miss reaches the controller.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    static final String TICKET_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".ticket";
+
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final ResponseVersionRegistry registry;
+    private final ObjectMapper objectMapper;
+    /** The query parameters each versioned handler binds, with their defaults. */
+    private final Map<Method, List<QueryParameter>> queryParameters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        VersionedResponse versioned = findAnnotation(handlerMethod);
+        if (versioned == null) {
+            return true;
+        }
+
+        ResponseVersionRegistry.Ticket ticket = registry.open(requestKey(request, handlerMethod), versioned.value());
+        request.setAttribute(TICKET_ATTRIBUTE, ticket);
+
+        ResponseVersionRegistry.CachedResponse cached = registry.lookup(ticket);
+        if (cached == null) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.ETAG, cached.getEtag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (ResponseVersionRegistry.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        writeCached(request, response, cached);
+        return false;
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             ResponseVersionRegistry.CachedResponse cached) throws IOException {
+        byte[] head = cached.getHead();
+        byte[] tail = timestampTail();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (cached.getDeflatedHead() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            byte[] gzip = SplicedGzip.assemble(head, cached.getDeflatedHead(), tail);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(gzip.length);
+            response.getOutputStream().write(gzip);
+            return;
+        }
+        response.setContentLength(head.length + tail.length);
+        response.getOutputStream().write(head);
+        response.getOutputStream().write(tail);
+    }
+
+    /** {@code ,"timestamp":<now>}} completing a cached envelope head, as {@link ApiResponse} writes it. */
+    private byte[] timestampTail() throws IOException {
+        byte[] timestamp = objectMapper.writeValueAsBytes(LocalDateTime.now());
+        byte[] tail = new byte[TIMESTAMP_FIELD.length + timestamp.length + 1];
+        System.arraycopy(TIMESTAMP_FIELD, 0, tail, 0, TIMESTAMP_FIELD.length);
+        System.arraycopy(timestamp, 0, tail, TIMESTAMP_FIELD.length, timestamp.length);
+        tail[tail.length - 1] = '}';
+        return tail;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static VersionedResponse findAnnotation(HandlerMethod handlerMethod) {
+        VersionedResponse versioned = AnnotatedElementUtils.findMergedAnnotation(
+                handlerMethod.getMethod(), VersionedResponse.class);
+        return versioned != null ? versioned
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), VersionedResponse.class);
+    }
+
+    /**
+     * The normalized resource: the decoded lookup path plus, in declaration order, the value
+     * of every {@code @RequestParam} the handler binds, with its default applied. Unknown
+     * query parameters and their order do not create separate entries.
+     */
+    private String requestKey(HttpServletRequest request, HandlerMethod handlerMethod) {
+        StringBuilder key = new StringBuilder(UrlPathHelper.defaultInstance.getLookupPathForRequest(request));
+        char separator = '?';
+        for (QueryParameter parameter : queryParameters.computeIfAbsent(handlerMethod.getMethod(),
+                method -> queryParametersOf(handlerMethod))) {
+            String[] values = request.getParameterValues(parameter.name());
+            if (values == null) {
+                if (parameter.defaultValue() == null) continue;
+                values = new String[] {parameter.defaultValue()};
+            }
+            key.append(separator).append(parameter.name()).append('=');
+            for (int i = 0; i < values.length; i++) {
+                key.append(i == 0 ? "" : ",").append(URLEncoder.encode(values[i], StandardCharsets.UTF_8));
+            }
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    private static List<QueryParameter> queryParametersOf(HandlerMethod handlerMethod) {
+        String[] names = PARAMETER_NAMES.getParameterNames(handlerMethod.getMethod());
+        List<QueryParameter> parameters = new ArrayList<>();
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null) continue;
+            String name = !requestParam.name().isEmpty() ? requestParam.name()
+                    : !requestParam.value().isEmpty() ? requestParam.value()
+                    : names != null ? names[parameter.getParameterIndex()] : null;
+            if (name == null) {
+                throw new IllegalStateException("Cannot resolve the name of a @RequestParam of " + handlerMethod);
+            }
+            String defaultValue = ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())
+                    ? null : requestParam.defaultValue();
+            parameters.add(new QueryParameter(name, defaultValue));
+        }
+        return List.copyOf(parameters);
+    }
+
+    private record QueryParameter(String name, String defaultValue) {
+    }
+}
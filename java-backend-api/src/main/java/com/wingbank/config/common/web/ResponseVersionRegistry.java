@@ -0,0 +1,123 @@
+package com.wingbank.config.common.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the last response computed for each versioned resource — its ETag and the
+ * JSON envelope up to its timestamp (plain and pre-deflated) — together with the dataset
+ * stamps it was computed under. An entry stays valid until one of its datasets changes or it outlives
+ * {@code app.mobile.etag.max-age-ms}; the max age bounds staleness for changes made
+ * through another instance. Entries are held in a Caffeine cache bounded by
+ * {@code max-bytes} and {@code max-entries}, so a flood of distinct requests only evicts
+ * the least recently used responses instead of dropping every entry at once.
+ */
+@Component
+public class ResponseVersionRegistry {
+
+    private final Map<ConfigDataset, AtomicLong> stamps = new EnumMap<>(ConfigDataset.class);
+    private final Cache<String, CachedResponse> entries;
+
+    public ResponseVersionRegistry(@Value("${app.mobile.etag.max-age-ms:60000}") long maxAgeMs,
+                                   @Value("${app.mobile.etag.max-entries:10000}") int maxEntries,
+                                   @Value("${app.mobile.etag.max-bytes:67108864}") long maxBytes) {
+        for (ConfigDataset dataset : ConfigDataset.values()) {
+            stamps.put(dataset, new AtomicLong());
+        }
+        // Every entry weighs at least maxBytes / maxEntries, which also caps the entry count
+        long minWeight = Math.max(1, maxBytes / Math.max(1, maxEntries));
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse entry) -> (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(minWeight, entry.size())))
+                .expireAfterWrite(Duration.ofMillis(maxAgeMs))
+                .build();
+    }
+
+    /**
+     * Runs after every other listener of the same event so that caches and snapshots
+     * are already refreshed when the new stamp becomes visible.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        stamps.get(event.getDataset()).incrementAndGet();
+    }
+
+    public Ticket open(String requestKey, ConfigDataset[] datasets) {
+        long[] current = new long[datasets.length];
+        for (int i = 0; i < datasets.length; i++) {
+            current[i] = stamps.get(datasets[i]).get();
+        }
+        return new Ticket(requestKey, current);
+    }
+
+    /** Returns the response cached for the ticket's resource if it was computed under the same stamps, else null. */
+    public CachedResponse lookup(Ticket ticket) {
+        CachedResponse entry = entries.getIfPresent(ticket.getRequestKey());
+        if (entry == null) return null;
+        if (!Arrays.equals(entry.getStamps(), ticket.getStamps())) {
+            entries.asMap().remove(ticket.getRequestKey(), entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public void register(Ticket ticket, String etag, byte[] head, byte[] deflatedHead) {
+        entries.put(ticket.getRequestKey(), new CachedResponse(ticket.getStamps(), etag, head, deflatedHead));
+    }
+
+    /** Weak comparison as required for If-None-Match (RFC 9110 §13.1.2). */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) return false;
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (opaqueTag(tag).equals(opaque)) return true;
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /** Resource key plus the dataset stamps observed before the handler read any data. */
+    @Getter
+    @AllArgsConstructor
+    public static class Ticket {
+        private final String requestKey;
+        private final long[] stamps;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedResponse {
+        private final long[] stamps;
+        private final String etag;
+        /** The serialized envelope without its timestamp and closing brace. */
+        private final byte[] head;
+        /** {@code head} as deflate blocks for {@link SplicedGzip}; null when too small to be worth compressing. */
+        private final byte[] deflatedHead;
+
+        long size() {
+            return head.length + (deflatedHead != null ? deflatedHead.length : 0);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.wingbank.config.common.web;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip body made of a head compressed once and a short tail compressed per response. The
+ * head is kept as raw deflate blocks ending in a sync flush, so it is byte aligned and a
+ * fresh deflate stream for the tail can follow it directly (RFC 1951 blocks may not refer
+ * back into the head, which is always valid). Only the tail and the CRC are computed per
+ * response.
+ */
+final class SplicedGzip {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+
+    private SplicedGzip() {}
+
+    /** Raw deflate blocks of {@code head}, not final, ending on a byte boundary. */
+    static byte[] deflateHead(byte[] head) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(head);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(head.length / 4);
+            byte[] buffer = new byte[8192];
+            int n;
+            do {
+                n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, n);
+            } while (n == buffer.length);
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** The complete gzip member for {@code head + tail}. */
+    static byte[] assemble(byte[] head, byte[] deflatedHead, byte[] tail) {
+        byte[] deflatedTail = deflateTail(tail);
+        CRC32 crc = new CRC32();
+        crc.update(head);
+        crc.update(tail);
+        long length = (long) head.length + tail.length;
+
+        byte[] gzip = new byte[HEADER.length + deflatedHead.length + deflatedTail.length + TRAILER_LENGTH];
+        System.arraycopy(HEADER, 0, gzip, 0, HEADER.length);
+        System.arraycopy(deflatedHead, 0, gzip, HEADER.length, deflatedHead.length);
+        System.arraycopy(deflatedTail, 0, gzip, HEADER.length + deflatedHead.length, deflatedTail.length);
+        int trailer = gzip.length - TRAILER_LENGTH;
+        writeIntLE(gzip, trailer, crc.getValue());
+        writeIntLE(gzip, trailer + 4, length);
+        return gzip;
+    }
+
+    private static byte[] deflateTail(byte[] tail) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(tail);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(tail.length + 16);
+            byte[] buffer = new byte[256];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeIntLE(byte[] target, int offset, long value) {
+        for (int i = 0; i < 4; i++) {
+            target[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}
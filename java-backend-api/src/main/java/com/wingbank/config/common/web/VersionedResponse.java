@@ -0,0 +1,22 @@
+package com.wingbank.config.common.web;
+
+import com.wingbank.config.common.event.ConfigDataset;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint (or every endpoint of a controller) whose body depends only on
+ * the listed datasets and the request URL. Such responses get a weak ETag, and
+ * matching {@code If-None-Match} requests are answered with 304 before the handler runs.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface VersionedResponse {
+
+    ConfigDataset[] value();
+}
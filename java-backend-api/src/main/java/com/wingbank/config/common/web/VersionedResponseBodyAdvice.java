@@ -0,0 +1,111 @@
+package com.wingbank.config.common.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wingbank.config.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * On the first request after a dataset change, computes the ETag of a
+ * {@link VersionedResponse} body and records it in the {@link ResponseVersionRegistry}
+ * together with the serialized envelope up to its timestamp and that head pre-deflated.
+ * Only {@link ApiResponse#getData()} is hashed, and replays splice a fresh timestamp onto
+ * the head, so every response still carries the time it was served. The ETag is weak: the
+ * identity and gzip bodies, and any two replays, differ in bytes but not in content.
+ */
+@RestControllerAdvice
+@Slf4j
+public class VersionedResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final int MIN_GZIP_SIZE = 1024;
+
+    private final ResponseVersionRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper hashMapper;
+
+    public VersionedResponseBodyAdvice(ResponseVersionRegistry registry, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.hashMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(VersionedResponse.class)
+                || AnnotatedElementUtils.hasAnnotation(returnType.getContainingClass(), VersionedResponse.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !apiResponse.isSuccess()
+                || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        if (!(httpRequest.getAttribute(ConditionalGetInterceptor.TICKET_ATTRIBUTE)
+                instanceof ResponseVersionRegistry.Ticket ticket)) {
+            return body;
+        }
+
+        String etag;
+        try {
+            etag = etagOf(apiResponse.getData());
+            byte[] head = envelopeHead(apiResponse);
+            registry.register(ticket, etag, head, head.length >= MIN_GZIP_SIZE ? SplicedGzip.deflateHead(head) : null);
+        } catch (IOException e) {
+            log.warn("Unable to cache versioned response for {}: {}", ticket.getRequestKey(), e.getMessage());
+            return body;
+        }
+        response.getHeaders().setETag(etag);
+        response.getHeaders().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (ResponseVersionRegistry.matches(httpRequest.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return null;
+        }
+        return body;
+    }
+
+    /** The envelope serialized without its timestamp and closing brace; the timestamp is the last property. */
+    private byte[] envelopeHead(ApiResponse<?> apiResponse) throws JsonProcessingException {
+        ApiResponse<Object> envelope = ApiResponse.builder()
+                .success(apiResponse.isSuccess())
+                .code(apiResponse.getCode())
+                .message(apiResponse.getMessage())
+                .data(apiResponse.getData())
+                .timestamp(null)
+                .build();
+        byte[] json = objectMapper.writeValueAsBytes(envelope);
+        return Arrays.copyOf(json, json.length - 1);
+    }
+
+    private String etagOf(Object data) throws JsonProcessingException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(hashMapper.writeValueAsBytes(data));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
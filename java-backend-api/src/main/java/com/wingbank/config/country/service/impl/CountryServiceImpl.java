@@ -1,8 +1,12 @@
 package com.wingbank.config.country.service.impl;
 
+import com.wingbank.config.common.cache.CacheNames;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.country.dto.CountryRequest;
 import com.wingbank.config.country.dto.CountryResponse;
 import com.wingbank.config.country.entity.Country;
@@ -10,6 +14,8 @@ import com.wingbank.config.country.repository.CountryRepository;
 import com.wingbank.config.country.service.CountryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -25,10 +31,13 @@ import java.util.stream.Collectors;
 public class CountryServiceImpl implements CountryService {
 
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<CountryResponse> getAllCountries(String search, String status, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<Country> countryPage = countryRepository.findAllWithFilters(search, status, PageRequest.of(page, size));
         var content = countryPage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(countryPage, content);
@@ -59,6 +68,7 @@ public class CountryServiceImpl implements CountryService {
 
         Country saved = countryRepository.save(country);
         log.info("Country created: {}", saved.getCode());
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.COUNTRY));
         return toResponse(saved);
     }
 
@@ -83,6 +93,7 @@ public class CountryServiceImpl implements CountryService {
 
         Country saved = countryRepository.save(country);
         log.info("Country updated: {}", saved.getCode());
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.COUNTRY));
         return toResponse(saved);
     }
 
@@ -94,10 +105,12 @@ public class CountryServiceImpl implements CountryService {
         country.setDeleted(true);
         countryRepository.save(country);
         log.info("Country soft deleted: {}", country.getCode());
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.COUNTRY));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.COUNTRIES, key = "'" + CacheNames.KEY_ACTIVE + "'")
     public List<CountryResponse> getActiveCountries() {
         return countryRepository.findByStatus(Country.Status.ACTIVE)
                 .stream().map(this::toResponse).collect(Collectors.toList());
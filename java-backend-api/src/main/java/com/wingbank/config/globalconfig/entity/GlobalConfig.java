@@ -29,6 +29,10 @@ public class GlobalConfig extends AuditEntity {
     @Column(columnDefinition = "VARCHAR(20) DEFAULT '1.0'")
     private String version = "1.0";
 
+    /** Generated from {@code version} by the database; see {@code SemanticVersion}. */
+    @Column(name = "version_sort", insertable = false, updatable = false)
+    private Long versionSort;
+
     private String description;
 
     @Enumerated(EnumType.STRING)
@@ -19,6 +19,10 @@ public interface GlobalConfigRepository extends JpaRepository<GlobalConfig, UUID
            "AND g.status = 'ACTIVE'")
     List<GlobalConfig> findByPlatformActive(@Param("platform") String platform);
 
+    List<GlobalConfig> findByStatus(GlobalConfig.Status status);
+
+    List<GlobalConfig> findByPlatformAndStatusOrderByConfigKey(String platform, GlobalConfig.Status status);
+
     @Query(value = "SELECT * FROM global_configs WHERE deleted = false " +
            "AND (:search IS NULL OR LOWER(config_key) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
            "OR LOWER(description) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
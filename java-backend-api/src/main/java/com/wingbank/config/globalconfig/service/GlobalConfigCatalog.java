@@ -0,0 +1,33 @@
+package com.wingbank.config.globalconfig.service;
+
+import com.wingbank.config.common.cache.CacheNames;
+import com.wingbank.config.globalconfig.entity.GlobalConfig;
+import com.wingbank.config.globalconfig.repository.GlobalConfigRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cached active configs per exact platform value; ALL and platform-specific
+ * configs are merged by the caller.
+ */
+@Component
+@RequiredArgsConstructor
+public class GlobalConfigCatalog {
+
+    private final GlobalConfigRepository globalConfigRepository;
+
+    @Cacheable(value = CacheNames.GLOBAL_CONFIGS, key = "#platform", unless = "#result.isEmpty()")
+    @Transactional(readOnly = true)
+    public Map<String, String> getActiveConfigs(String platform) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (GlobalConfig c : globalConfigRepository.findByPlatformAndStatusOrderByConfigKey(platform, GlobalConfig.Status.ACTIVE)) {
+            result.put(c.getConfigKey(), c.getConfigValue());
+        }
+        return result;
+    }
+}
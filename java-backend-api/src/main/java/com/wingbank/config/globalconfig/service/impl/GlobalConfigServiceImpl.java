@@ -1,14 +1,19 @@
 package com.wingbank.config.globalconfig.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.globalconfig.dto.GlobalConfigRequest;
 import com.wingbank.config.globalconfig.dto.GlobalConfigResponse;
 import com.wingbank.config.globalconfig.entity.GlobalConfig;
 import com.wingbank.config.globalconfig.repository.GlobalConfigRepository;
+import com.wingbank.config.globalconfig.service.GlobalConfigCatalog;
 import com.wingbank.config.globalconfig.service.GlobalConfigService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -26,10 +31,14 @@ import java.util.stream.Collectors;
 public class GlobalConfigServiceImpl implements GlobalConfigService {
 
     private final GlobalConfigRepository globalConfigRepository;
+    private final GlobalConfigCatalog globalConfigCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<GlobalConfigResponse> getAllConfigs(String search, String platform, String status, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<GlobalConfig> configPage = globalConfigRepository.findAllWithFilters(search, platform, status, PageRequest.of(page, size));
         var content = configPage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(configPage, content);
@@ -56,6 +65,7 @@ public class GlobalConfigServiceImpl implements GlobalConfigService {
 
         GlobalConfig saved = globalConfigRepository.save(config);
         log.info("GlobalConfig created: {}", saved.getConfigKey());
+        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.GLOBAL_CONFIG, saved.getPlatform()));
         return toResponse(saved);
     }
 
@@ -64,6 +74,7 @@ public class GlobalConfigServiceImpl implements GlobalConfigService {
     public GlobalConfigResponse updateConfig(UUID id, GlobalConfigRequest request) {
         GlobalConfig config = globalConfigRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("GlobalConfig", "id", id));
+        String previousPlatform = config.getPlatform();
 
         config.setConfigKey(request.getConfigKey());
         config.setConfigValue(request.getConfigValue());
@@ -80,6 +91,8 @@ public class GlobalConfigServiceImpl implements GlobalConfigService {
 
         GlobalConfig saved = globalConfigRepository.save(config);
         log.info("GlobalConfig updated: {}", saved.getConfigKey());
+        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.GLOBAL_CONFIG,
+                previousPlatform, saved.getPlatform()));
         return toResponse(saved);
     }
 
@@ -91,16 +104,17 @@ public class GlobalConfigServiceImpl implements GlobalConfigService {
         config.setDeleted(true);
         globalConfigRepository.save(config);
         log.info("GlobalConfig soft deleted: {}", config.getConfigKey());
+        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.GLOBAL_CONFIG, config.getPlatform()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Map<String, String> getActiveConfigMap(String platform) {
         String resolvedPlatform = platform != null ? platform : "ALL";
-        List<GlobalConfig> configs = globalConfigRepository.findByPlatformActive(resolvedPlatform);
-        Map<String, String> result = new LinkedHashMap<>();
-        for (GlobalConfig c : configs) {
-            result.put(c.getConfigKey(), c.getConfigValue());
+        // Platform-specific configs override ALL configs with the same key
+        Map<String, String> result = new LinkedHashMap<>(globalConfigCatalog.getActiveConfigs("ALL"));
+        if (!"ALL".equals(resolvedPlatform)) {
+            result.putAll(globalConfigCatalog.getActiveConfigs(resolvedPlatform));
         }
         return result;
     }
@@ -1,19 +1,29 @@
 package com.wingbank.config.message.controller;
 
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.dto.ImportResult;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.transfer.TransferFormat;
 import com.wingbank.config.message.dto.ApiMessageRequest;
 import com.wingbank.config.message.dto.ApiMessageResponse;
 import com.wingbank.config.message.service.ApiMessageService;
+import com.wingbank.config.message.service.ApiMessageTransfer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 @RestController
@@ -23,6 +33,7 @@ import java.util.UUID;
 public class ApiMessageController {
 
     private final ApiMessageService apiMessageService;
+    private final ApiMessageTransfer apiMessageTransfer;
 
     @GetMapping
     @PreAuthorize("hasAuthority('MESSAGE_VIEW')")
@@ -69,4 +80,30 @@ public class ApiMessageController {
         apiMessageService.deleteMessage(id);
         return ResponseEntity.ok(ApiResponse.success("API message deleted successfully", null));
     }
+
+    @PostMapping("/import")
+    @PreAuthorize("hasAuthority('MESSAGE_CREATE') and hasAuthority('MESSAGE_UPDATE')")
+    @Operation(summary = "Upsert API messages from a CSV or JSON file sent as the request body")
+    public ResponseEntity<ApiResponse<ImportResult>> importMessages(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) {
+        ImportResult result = apiMessageTransfer.importMessages(body, TransferFormat.parse(format));
+        return ResponseEntity.ok(ApiResponse.success("API messages imported successfully", result));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('MESSAGE_VIEW')")
+    @Operation(summary = "Stream API messages as CSV or JSON in the import layout")
+    public ResponseEntity<StreamingResponseBody> exportMessages(@RequestParam(defaultValue = "csv") String format) {
+        TransferFormat exportFormat = TransferFormat.parse(format);
+        String fileName = "api-messages-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + "." + exportFormat.getExtension();
+
+        StreamingResponseBody responseBody = out -> apiMessageTransfer.exportMessages(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(responseBody);
+    }
 }
@@ -2,6 +2,7 @@ package com.wingbank.config.message.dto;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,6 +26,10 @@ public class ApiMessageResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /** Escaped HTML snippet of the matching values; only set on search results. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlight;
+
     @JsonIgnore
     @Builder.Default
     private Map<String, String> languageValues = new HashMap<>();
@@ -1,13 +1,16 @@
 package com.wingbank.config.message.repository;
 
+import com.wingbank.config.common.dto.SearchHeadline;
 import com.wingbank.config.message.entity.ApiMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,20 +24,47 @@ public interface ApiMessageRepository extends JpaRepository<ApiMessage, UUID> {
 
     List<ApiMessage> findByType(ApiMessage.MessageType type);
 
-    @Query(value = "SELECT DISTINCT m.* FROM api_messages m " +
-           "LEFT JOIN api_message_values mv ON m.id = mv.message_id " +
-           "WHERE m.deleted = false " +
-           "AND (:search IS NULL OR LOWER(m.error_code) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(mv.message) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
-           "AND (:type IS NULL OR m.type = CAST(:type AS TEXT))",
-           countQuery = "SELECT COUNT(DISTINCT m.id) FROM api_messages m " +
-           "LEFT JOIN api_message_values mv ON m.id = mv.message_id " +
-           "WHERE m.deleted = false " +
-           "AND (:search IS NULL OR LOWER(m.error_code) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(mv.message) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
-           "AND (:type IS NULL OR m.type = CAST(:type AS TEXT))",
+    /** Every live message with its values in a single statement. */
+    @EntityGraph(attributePaths = "values")
+    @Query("SELECT m FROM ApiMessage m")
+    List<ApiMessage> findAllWithValues();
+
+    /** Admin list filters other than the search. */
+    String FILTERS = "m.deleted = false " +
+           "AND (:type IS NULL OR m.type = CAST(:type AS TEXT))";
+
+    /**
+     * A substring of the error code or the full-text document of the error code and all
+     * messages (see V19, kept current by triggers), as a UNION of id sets so each branch is
+     * answered from its own GIN index.
+     */
+    String SEARCH = "m.id IN (SELECT c.id FROM api_messages c " +
+           "WHERE LOWER(c.error_code) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
+           "UNION SELECT s.message_id FROM api_message_search s " +
+           "WHERE s.document @@ (SELECT search_query(CAST(:search AS TEXT))))";
+
+    @Query(value = "SELECT m.* FROM api_messages m WHERE " + FILTERS + " ORDER BY m.error_code",
+           countQuery = "SELECT COUNT(*) FROM api_messages m WHERE " + FILTERS,
+           nativeQuery = true)
+    Page<ApiMessage> findAllWithFilters(@Param("type") String type, Pageable pageable);
+
+    /** Exact error code matches first, then by rank. */
+    @Query(value = "SELECT m.* FROM api_messages m " +
+           "LEFT JOIN api_message_search ms ON ms.message_id = m.id " +
+           "WHERE " + SEARCH + " AND " + FILTERS + " " +
+           "ORDER BY LOWER(m.error_code) = LOWER(CAST(:search AS TEXT)) DESC, " +
+           "ts_rank(ms.document, (SELECT search_query(CAST(:search AS TEXT)))) DESC NULLS LAST, m.error_code",
+           countQuery = "SELECT COUNT(*) FROM api_messages m WHERE " + SEARCH + " AND " + FILTERS,
+           nativeQuery = true)
+    Page<ApiMessage> searchWithFilters(@Param("search") String search,
+                                        @Param("type") String type,
+                                        Pageable pageable);
+
+    /** Highlighted snippet of the messages of each API message for the given search. */
+    @Query(value = "SELECT m.id AS \"id\", search_headline(" +
+           "(SELECT string_agg(mv.message, ' | ' ORDER BY mv.language_code) FROM api_message_values mv " +
+           "WHERE mv.message_id = m.id), CAST(:search AS TEXT)) AS \"headline\" " +
+           "FROM api_messages m WHERE m.id IN (:ids)",
            nativeQuery = true)
-    Page<ApiMessage> findAllWithFilters(@Param("search") String search,
-                                         @Param("type") String type,
-                                         Pageable pageable);
+    List<SearchHeadline> findHeadlines(@Param("ids") Collection<UUID> ids, @Param("search") String search);
 }
@@ -0,0 +1,44 @@
+package com.wingbank.config.message.service;
+
+import com.wingbank.config.common.cache.CacheNames;
+import com.wingbank.config.message.entity.ApiMessage;
+import com.wingbank.config.message.entity.ApiMessageValue;
+import com.wingbank.config.message.repository.ApiMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cached error code → language → message map for every API message. Languages are
+ * resolved by the caller so one entry serves all of them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiMessageCatalog {
+
+    private final ApiMessageRepository apiMessageRepository;
+
+    @Cacheable(value = CacheNames.API_MESSAGES, key = "'" + CacheNames.KEY_ALL + "'")
+    @Transactional(readOnly = true)
+    public Map<String, Map<String, String>> getMessages() {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        apiMessageRepository.findAllWithValues().stream()
+                .sorted(Comparator.comparing(ApiMessage::getErrorCode))
+                .forEach(m -> {
+                    Map<String, String> values = new HashMap<>();
+                    for (ApiMessageValue v : m.getValues()) {
+                        if (v.getMessage() != null) {
+                            values.putIfAbsent(v.getLanguageCode().toLowerCase(), v.getMessage());
+                        }
+                    }
+                    result.put(m.getErrorCode(), values);
+                });
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package com.wingbank.config.message.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.audit.entity.AuditLog;
+import com.wingbank.config.audit.service.AuditLogWriter;
+import com.wingbank.config.common.dto.ImportResult;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.transfer.LanguageRow;
+import com.wingbank.config.common.transfer.LanguageRowTransfer;
+import com.wingbank.config.common.transfer.TransferFormat;
+import com.wingbank.config.message.entity.ApiMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk CSV/JSON import and streaming export of API messages, upserting by error code. A
+ * missing type or HTTP status keeps the stored one (new rows default to ERROR / 400),
+ * soft-deleted rows are restored, and only the languages present in a row are written.
+ */
+@Component
+@Slf4j
+public class ApiMessageTransfer extends LanguageRowTransfer {
+
+    private static final List<String> FIELDS = List.of("errorCode", "type", "httpStatus");
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogWriter auditLogWriter;
+
+    public ApiMessageTransfer(DataSource dataSource, PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                              AuditLogWriter auditLogWriter) {
+        super(dataSource, transactionManager, objectMapper);
+        this.eventPublisher = eventPublisher;
+        this.auditLogWriter = auditLogWriter;
+    }
+
+    public ImportResult importMessages(InputStream in, TransferFormat format) {
+        String user = currentUser();
+        long[] changes = new long[1];
+        ImportResult result = runImport(in, format, Set.copyOf(FIELDS), this::validate, row -> row.field("errorCode"),
+                rows -> {
+                    long[] counts = upsert(rows, user);
+                    changes[0] += counts[0] + counts[1];
+                    return counts;
+                },
+                () -> {
+                    if (changes[0] > 0) {
+                        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.API_MESSAGE));
+                    }
+                });
+
+        log.info("API messages imported: {} rows, {} created, {} updated, {} skipped",
+                result.getTotal(), result.getCreated(), result.getUpdated(), result.getSkipped());
+        auditLogWriter.enqueue(AuditLog.builder().userEmail(user).action("IMPORT").entityType("ApiMessage").build(),
+                null, summary(result));
+        return result;
+    }
+
+    public void exportMessages(TransferFormat format, OutputStream out) throws IOException {
+        runExport(out, format, FIELDS,
+                "SELECT DISTINCT language_code FROM api_message_values ORDER BY language_code",
+                "SELECT m.error_code, m.type, m.http_status, " +
+                "(SELECT jsonb_object_agg(v.language_code, v.message) FROM api_message_values v " +
+                "WHERE v.message_id = m.id AND v.message IS NOT NULL) " +
+                "FROM api_messages m WHERE m.deleted = false ORDER BY m.error_code",
+                new MapSqlParameterSource());
+    }
+
+    private String validate(LanguageRow row) {
+        String errorCode = row.field("errorCode");
+        if (errorCode == null) return "Error code is required";
+        if (errorCode.length() > 50) return "Error code must be at most 50 characters";
+        String type = row.field("type");
+        if (type != null && parseType(type) == null) return "Unknown message type '" + type + "'";
+        String httpStatus = row.field("httpStatus");
+        if (httpStatus != null) {
+            Integer status = parseStatus(httpStatus);
+            if (status == null || status < 100 || status > 599) return "Invalid HTTP status '" + httpStatus + "'";
+        }
+        for (String language : row.values().keySet()) {
+            if (!LanguageRow.isLanguageCode(language)) return "Invalid language code '" + language + "'";
+        }
+        return null;
+    }
+
+    private long[] upsert(List<LanguageRow> rows, String user) {
+        Map<String, Existing> existing = loadExisting(rows);
+
+        StringBuilder sql = new StringBuilder("INSERT INTO api_messages (error_code, type, http_status, created_by) VALUES ");
+        List<Object> args = new ArrayList<>();
+        long created = 0;
+        Set<String> updated = new HashSet<>();
+        for (LanguageRow row : rows) {
+            String errorCode = row.field("errorCode");
+            Existing current = existing.get(errorCode);
+            String type = row.field("type") != null ? parseType(row.field("type")).name()
+                    : current != null ? current.type() : ApiMessage.MessageType.ERROR.name();
+            int httpStatus = row.field("httpStatus") != null ? parseStatus(row.field("httpStatus"))
+                    : current != null ? current.httpStatus() : 400;
+            if (current == null) {
+                created++;
+            } else if (current.deleted() || !Objects.equals(type, current.type()) || httpStatus != current.httpStatus()) {
+                updated.add(errorCode);
+            } else {
+                continue;
+            }
+            sql.append(args.isEmpty() ? "" : ", ").append("(?, ?, ?, ?)");
+            args.add(text(errorCode));
+            args.add(text(type));
+            args.add(new SqlParameterValue(Types.INTEGER, httpStatus));
+            args.add(text(user));
+        }
+        if (!args.isEmpty()) {
+            sql.append(" ON CONFLICT (error_code) DO UPDATE SET type = EXCLUDED.type, " +
+                    "http_status = EXCLUDED.http_status, deleted = false, updated_at = CURRENT_TIMESTAMP");
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+
+        Set<UUID> valuesChanged = upsertValues(rows, "api_messages", List.of("error_code"),
+                row -> List.of(row.field("errorCode")),
+                "api_message_values", "message_id", "message");
+        for (LanguageRow row : rows) {
+            Existing current = existing.get(row.field("errorCode"));
+            if (current != null && valuesChanged.contains(current.id())) {
+                updated.add(row.field("errorCode"));
+            }
+        }
+        return new long[] {created, updated.size()};
+    }
+
+    /** Current state of the chunk's messages, deleted ones included, keyed by error code. */
+    private Map<String, Existing> loadExisting(List<LanguageRow> rows) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, error_code, type, http_status, deleted FROM api_messages WHERE error_code IN (");
+        List<Object> args = new ArrayList<>(rows.size());
+        for (LanguageRow row : rows) {
+            sql.append(args.isEmpty() ? "?" : ", ?");
+            args.add(text(row.field("errorCode")));
+        }
+        sql.append(')');
+        Map<String, Existing> existing = new HashMap<>(rows.size() * 2);
+        jdbcTemplate.query(sql.toString(), rs -> {
+            existing.put(rs.getString("error_code"), new Existing(rs.getObject("id", UUID.class),
+                    rs.getString("type"), rs.getInt("http_status"), rs.getBoolean("deleted")));
+        }, args.toArray());
+        return existing;
+    }
+
+    private static ApiMessage.MessageType parseType(String type) {
+        try {
+            return ApiMessage.MessageType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseStatus(String httpStatus) {
+        try {
+            return Integer.valueOf(httpStatus);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Existing(UUID id, String type, int httpStatus, boolean deleted) {}
+}
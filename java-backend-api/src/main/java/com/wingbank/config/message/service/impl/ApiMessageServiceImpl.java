@@ -1,16 +1,21 @@
 package com.wingbank.config.message.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.message.dto.ApiMessageRequest;
 import com.wingbank.config.message.dto.ApiMessageResponse;
 import com.wingbank.config.message.entity.ApiMessage;
 import com.wingbank.config.message.entity.ApiMessageValue;
 import com.wingbank.config.message.repository.ApiMessageRepository;
+import com.wingbank.config.message.service.ApiMessageCatalog;
 import com.wingbank.config.message.service.ApiMessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -25,12 +30,25 @@ import java.util.stream.Collectors;
 public class ApiMessageServiceImpl implements ApiMessageService {
 
     private final ApiMessageRepository apiMessageRepository;
+    private final ApiMessageCatalog apiMessageCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<ApiMessageResponse> getAllMessages(String search, String type, int page, int size) {
-        Page<ApiMessage> messagePage = apiMessageRepository.findAllWithFilters(search, type, PageRequest.of(page, size));
+        searchPlanning.useCustomPlans();
+        boolean searching = search != null && !search.isBlank();
+        Page<ApiMessage> messagePage = searching
+                ? apiMessageRepository.searchWithFilters(search, type, PageRequest.of(page, size))
+                : apiMessageRepository.findAllWithFilters(type, PageRequest.of(page, size));
         var content = messagePage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
+        if (searching && !content.isEmpty()) {
+            Map<UUID, String> headlines = new HashMap<>();
+            apiMessageRepository.findHeadlines(content.stream().map(ApiMessageResponse::getId).toList(), search)
+                    .forEach(h -> headlines.put(h.getId(), h.getHeadline()));
+            content.forEach(r -> r.setHighlight(headlines.get(r.getId())));
+        }
         return PagedResponse.from(messagePage, content);
     }
 
@@ -57,6 +75,7 @@ public class ApiMessageServiceImpl implements ApiMessageService {
 
         ApiMessage saved = apiMessageRepository.save(message);
         log.info("ApiMessage created: {}", saved.getErrorCode());
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.API_MESSAGE));
         return toResponse(saved);
     }
 
@@ -81,6 +100,7 @@ public class ApiMessageServiceImpl implements ApiMessageService {
 
         ApiMessage saved = apiMessageRepository.save(message);
         log.info("ApiMessage updated: {}", saved.getErrorCode());
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.API_MESSAGE));
         return toResponse(saved);
     }
 
@@ -92,34 +112,23 @@ public class ApiMessageServiceImpl implements ApiMessageService {
         message.setDeleted(true);
         apiMessageRepository.save(message);
         log.info("ApiMessage soft deleted: {}", message.getErrorCode());
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.API_MESSAGE));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Map<String, String> getMessageMap(String lang) {
-        List<ApiMessage> messages = apiMessageRepository.findAll();
+        String langKey = lang.toLowerCase();
         Map<String, String> result = new LinkedHashMap<>();
-        for (ApiMessage m : messages) {
-            String value = getValueForLang(m, lang);
-            if (value == null) {
-                value = getValueForLang(m, "en");
-            }
+        apiMessageCatalog.getMessages().forEach((errorCode, values) -> {
+            String value = values.getOrDefault(langKey, values.get("en"));
             if (value != null) {
-                result.put(m.getErrorCode(), value);
+                result.put(errorCode, value);
             }
-        }
+        });
         return result;
     }
 
-    private String getValueForLang(ApiMessage m, String lang) {
-        if (m.getValues() == null) return null;
-        return m.getValues().stream()
-                .filter(v -> v.getLanguageCode().equalsIgnoreCase(lang))
-                .map(ApiMessageValue::getMessage)
-                .findFirst()
-                .orElse(null);
-    }
-
     /**
      * Apply language values from request to entity.
      * Request map keys are like "enMessage", "kmMessage" → extract lang code from prefix.
@@ -0,0 +1,8 @@
+package com.wingbank.config.mobile.service;
+
+import com.wingbank.config.mobile.dto.MobileConfigResponse;
+
+public interface MobileConfigService {
+
+    MobileConfigResponse getMobileConfig(String platform, String version, String lang);
+}
@@ -0,0 +1,19 @@
+package com.wingbank.config.mobile.service.impl;
+
+import com.wingbank.config.mobile.dto.MobileConfigResponse;
+import com.wingbank.config.mobile.service.MobileConfigService;
+import com.wingbank.config.mobile.snapshot.MobileConfigSnapshotManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MobileConfigServiceImpl implements MobileConfigService {
+
+    private final MobileConfigSnapshotManager snapshotManager;
+
+    @Override
+    public MobileConfigResponse getMobileConfig(String platform, String version, String lang) {
+        return snapshotManager.current().resolve(platform, version, lang);
+    }
+}
@@ -0,0 +1,115 @@
+package com.wingbank.config.mobile.snapshot;
+
+import com.wingbank.config.common.util.SemanticVersion;
+import com.wingbank.config.mobile.dto.MobileConfigResponse;
+import com.wingbank.config.mobile.snapshot.MobileConfigSnapshotSource.TranslationEntry;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable, pre-indexed view of every dataset behind {@code /api/mobile/config}.
+ * Translations and API messages are indexed by platform and language with the
+ * English fallback already applied, so resolving a request is pure map work.
+ */
+@Getter
+public class MobileConfigSnapshot {
+
+    static final String PLATFORM_ALL = "ALL";
+    static final String FALLBACK_LANG = "en";
+    private static final int MAX_RESOLVED_ENTRIES = 512;
+
+    private final long version;
+    private final String contentHash;
+    private final LocalDateTime builtAt;
+    private final Set<String> languages;
+
+    @Getter(AccessLevel.NONE)
+    private final MobileConfigSnapshotSource source;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<String, MobileConfigResponse> resolved = new ConcurrentHashMap<>();
+
+    MobileConfigSnapshot(long version, MobileConfigSnapshotSource source) {
+        this.version = version;
+        this.contentHash = source.getContentHash();
+        this.builtAt = source.getBuiltAt();
+        this.languages = Set.copyOf(source.getLanguages());
+        this.source = source;
+    }
+
+    /**
+     * Resolve the aggregated config for one client. Results are memoized per
+     * (platform, semantic version, lang) for the lifetime of this snapshot, so
+     * "2.1" and "2.1.0" share an entry.
+     */
+    public MobileConfigResponse resolve(String platform, String version, String lang) {
+        String resolvedPlatform = platform.toUpperCase();
+        String resolvedLang = languages.contains(lang.toLowerCase()) ? lang.toLowerCase() : FALLBACK_LANG;
+        long maxVersion = SemanticVersion.parse(version).sortKey();
+        String cacheKey = resolvedPlatform + '|' + maxVersion + '|' + resolvedLang;
+
+        MobileConfigResponse response = resolved.get(cacheKey);
+        if (response != null) {
+            return response;
+        }
+        response = build(resolvedPlatform, maxVersion, resolvedLang);
+        if (resolved.size() < MAX_RESOLVED_ENTRIES) {
+            resolved.putIfAbsent(cacheKey, response);
+        }
+        return response;
+    }
+
+    private MobileConfigResponse build(String platform, long maxVersion, String lang) {
+        // Platform-specific rows override the ALL rows
+        Map<String, String> translationMap = new HashMap<>();
+        addTranslations(translationMap, PLATFORM_ALL, maxVersion, lang);
+        if (!PLATFORM_ALL.equals(platform)) {
+            addTranslations(translationMap, platform, maxVersion, lang);
+        }
+
+        Map<String, Map<String, String>> globalConfigs = source.getGlobalConfigs();
+        Map<String, String> configMap = new HashMap<>(globalConfigs.getOrDefault(PLATFORM_ALL, Map.of()));
+        if (!PLATFORM_ALL.equals(platform)) {
+            configMap.putAll(globalConfigs.getOrDefault(platform, Map.of()));
+        }
+
+        Map<String, Object> featureFlags = new HashMap<>();
+        configMap.entrySet().stream()
+                .filter(e -> e.getKey().startsWith("feature."))
+                .forEach(e -> featureFlags.put(e.getKey().replace("feature.", ""),
+                        "true".equalsIgnoreCase(e.getValue())));
+
+        return MobileConfigResponse.builder()
+                .translations(Collections.unmodifiableMap(translationMap))
+                .countries(Collections.unmodifiableList(source.getCountries()))
+                .globalConfigs(Collections.unmodifiableMap(configMap))
+                .apiMessages(Collections.unmodifiableMap(apiMessages(lang)))
+                .featureFlags(Collections.unmodifiableMap(featureFlags))
+                .build();
+    }
+
+    private Map<String, String> apiMessages(String lang) {
+        Map<String, Map<String, String>> apiMessages = source.getApiMessages();
+        return apiMessages.getOrDefault(lang, apiMessages.getOrDefault(FALLBACK_LANG, Map.of()));
+    }
+
+    private void addTranslations(Map<String, String> target, String platform, long maxVersion, String lang) {
+        Map<String, List<TranslationEntry>> byLang = source.getTranslations().get(platform);
+        if (byLang == null) return;
+        List<TranslationEntry> entries = byLang.getOrDefault(lang, byLang.getOrDefault(FALLBACK_LANG, List.of()));
+        for (TranslationEntry entry : entries) {
+            if (entry.getVersionSort() != null && entry.getVersionSort() <= maxVersion) {
+                target.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
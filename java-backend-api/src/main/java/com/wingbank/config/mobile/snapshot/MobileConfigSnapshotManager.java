@@ -0,0 +1,289 @@
+package com.wingbank.config.mobile.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wingbank.config.common.cache.CacheNames;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.util.SemanticVersion;
+import com.wingbank.config.country.dto.CountryResponse;
+import com.wingbank.config.country.entity.Country;
+import com.wingbank.config.country.repository.CountryRepository;
+import com.wingbank.config.globalconfig.entity.GlobalConfig;
+import com.wingbank.config.globalconfig.repository.GlobalConfigRepository;
+import com.wingbank.config.message.entity.ApiMessage;
+import com.wingbank.config.message.entity.ApiMessageValue;
+import com.wingbank.config.message.repository.ApiMessageRepository;
+import com.wingbank.config.mobile.snapshot.MobileConfigSnapshotSource.TranslationEntry;
+import com.wingbank.config.translation.entity.Translation;
+import com.wingbank.config.translation.entity.TranslationValue;
+import com.wingbank.config.translation.repository.TranslationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.wingbank.config.mobile.snapshot.MobileConfigSnapshot.FALLBACK_LANG;
+
+/**
+ * Owns the current {@link MobileConfigSnapshot} and swaps in a freshly built one
+ * whenever one of its source datasets changes. Readers never block on a rebuild:
+ * they keep using the previous snapshot until the new one is published. The node that
+ * rebuilds from the database shares the {@link MobileConfigSnapshotSource} through the
+ * {@code mobileConfig} cache so other replicas can adopt it without querying.
+ */
+@Component
+@Slf4j
+public class MobileConfigSnapshotManager {
+
+    private static final String SOURCE_KEY = "source";
+
+    private static final Set<ConfigDataset> SOURCE_DATASETS = EnumSet.of(
+            ConfigDataset.TRANSLATION, ConfigDataset.API_MESSAGE,
+            ConfigDataset.COUNTRY, ConfigDataset.GLOBAL_CONFIG);
+
+    private final TranslationRepository translationRepository;
+    private final CountryRepository countryRepository;
+    private final GlobalConfigRepository globalConfigRepository;
+    private final ApiMessageRepository apiMessageRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper hashMapper;
+
+    private final AtomicReference<MobileConfigSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Object rebuildLock = new Object();
+
+    public MobileConfigSnapshotManager(TranslationRepository translationRepository,
+                                       CountryRepository countryRepository,
+                                       GlobalConfigRepository globalConfigRepository,
+                                       ApiMessageRepository apiMessageRepository,
+                                       CacheManager cacheManager,
+                                       PlatformTransactionManager transactionManager) {
+        this.translationRepository = translationRepository;
+        this.countryRepository = countryRepository;
+        this.globalConfigRepository = globalConfigRepository;
+        this.apiMessageRepository = apiMessageRepository;
+        this.cacheManager = cacheManager;
+
+        // Rebuilds may run from an after-commit callback, so always use a fresh transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.hashMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    public MobileConfigSnapshot current() {
+        MobileConfigSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh(false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        if (SOURCE_DATASETS.contains(event.getDataset())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Picks up changes made through another replica: adopts the source that replica
+     * shared through the cache, falling back to the database when there is none. A new
+     * version is only published when the content hash actually differs.
+     */
+    @Scheduled(fixedDelayString = "${app.mobile.snapshot.refresh-interval-ms:60000}",
+               initialDelayString = "${app.mobile.snapshot.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh(false);
+        } catch (Exception e) {
+            log.error("Scheduled mobile config snapshot refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /** Rebuild from the database and share the result with the other replicas. */
+    public MobileConfigSnapshot rebuild() {
+        return refresh(true);
+    }
+
+    private MobileConfigSnapshot refresh(boolean fromDatabase) {
+        synchronized (rebuildLock) {
+            MobileConfigSnapshotSource source = fromDatabase ? null : readShared();
+            if (source == null) {
+                source = readOnlyTransaction.execute(status -> load());
+                writeShared(source);
+            }
+            return publish(source);
+        }
+    }
+
+    private MobileConfigSnapshot publish(MobileConfigSnapshotSource source) {
+        MobileConfigSnapshot previous = current.get();
+        if (previous != null && previous.getContentHash().equals(source.getContentHash())) {
+            return previous;
+        }
+        MobileConfigSnapshot next = new MobileConfigSnapshot(versionSequence.incrementAndGet(), source);
+        current.set(next);
+        log.info("Mobile config snapshot v{} published (hash={})", next.getVersion(), next.getContentHash());
+        return next;
+    }
+
+    private MobileConfigSnapshotSource readShared() {
+        try {
+            MobileConfigSnapshotSource source = sharedCache().get(SOURCE_KEY, MobileConfigSnapshotSource.class);
+            return source != null && source.getFormatVersion() == MobileConfigSnapshotSource.FORMAT_VERSION
+                    ? source : null;
+        } catch (RuntimeException e) {
+            log.warn("Unable to read shared mobile config snapshot: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(MobileConfigSnapshotSource source) {
+        try {
+            sharedCache().put(SOURCE_KEY, source);
+        } catch (RuntimeException e) {
+            log.warn("Unable to share mobile config snapshot: {}", e.getMessage());
+        }
+    }
+
+    private Cache sharedCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheNames.MOBILE_CONFIG));
+    }
+
+    private MobileConfigSnapshotSource load() {
+        List<Translation> translations = translationRepository.findAllWithValues();
+        List<ApiMessage> messages = apiMessageRepository.findAllWithValues();
+        List<Country> countries = countryRepository.findByStatus(Country.Status.ACTIVE);
+        List<GlobalConfig> configs = globalConfigRepository.findByStatus(GlobalConfig.Status.ACTIVE);
+
+        Set<String> languages = new TreeSet<>();
+        languages.add(FALLBACK_LANG);
+        translations.forEach(t -> t.getValues().forEach(v -> languages.add(v.getLanguageCode().toLowerCase())));
+        messages.forEach(m -> m.getValues().forEach(v -> languages.add(v.getLanguageCode().toLowerCase())));
+
+        Map<String, Map<String, List<TranslationEntry>>> translationIndex = indexTranslations(translations, languages);
+        Map<String, Map<String, String>> messageIndex = indexMessages(messages, languages);
+
+        List<CountryResponse> countryList = countries.stream()
+                .sorted(Comparator.comparing(Country::getCode))
+                .map(c -> CountryResponse.builder()
+                        .id(c.getId())
+                        .name(c.getName())
+                        .code(c.getCode())
+                        .dialCode(c.getDialCode())
+                        .flagUrl(c.getFlagUrl())
+                        .currency(c.getCurrency())
+                        .status(c.getStatus().name())
+                        .build())
+                .collect(Collectors.toList());
+
+        Map<String, Map<String, String>> configIndex = new HashMap<>();
+        for (GlobalConfig c : configs) {
+            configIndex.computeIfAbsent(c.getPlatform(), p -> new HashMap<>())
+                    .put(c.getConfigKey(), c.getConfigValue());
+        }
+
+        String contentHash = hash(translationIndex, countryList, configIndex, messageIndex);
+        return new MobileConfigSnapshotSource(MobileConfigSnapshotSource.FORMAT_VERSION, contentHash,
+                LocalDateTime.now(), new ArrayList<>(languages), translationIndex, countryList, configIndex, messageIndex);
+    }
+
+    private Map<String, Map<String, List<TranslationEntry>>> indexTranslations(List<Translation> translations,
+                                                                                Set<String> languages) {
+        Map<String, Map<String, List<TranslationEntry>>> index = new HashMap<>();
+        translations.stream()
+                .sorted(Comparator.comparing(Translation::getKey))
+                .forEach(t -> {
+                    Map<String, String> values = valuesByLang(t.getValues(),
+                            TranslationValue::getLanguageCode, TranslationValue::getValue);
+                    Map<String, List<TranslationEntry>> byLang = index.computeIfAbsent(t.getPlatform(), p -> new HashMap<>());
+                    Long versionSort = SemanticVersion.sortKey(t.getVersion());
+                    for (String lang : languages) {
+                        String value = values.getOrDefault(lang, values.get(FALLBACK_LANG));
+                        if (value != null) {
+                            byLang.computeIfAbsent(lang, l -> new ArrayList<>())
+                                    .add(new TranslationEntry(t.getKey(), versionSort, value));
+                        }
+                    }
+                });
+        return index;
+    }
+
+    private Map<String, Map<String, String>> indexMessages(List<ApiMessage> messages, Set<String> languages) {
+        Map<String, Map<String, String>> index = new HashMap<>();
+        for (String lang : languages) {
+            index.put(lang, new LinkedHashMap<>());
+        }
+        for (ApiMessage m : messages) {
+            Map<String, String> values = valuesByLang(m.getValues(),
+                    ApiMessageValue::getLanguageCode, ApiMessageValue::getMessage);
+            for (String lang : languages) {
+                String value = values.getOrDefault(lang, values.get(FALLBACK_LANG));
+                if (value != null) {
+                    index.get(lang).put(m.getErrorCode(), value);
+                }
+            }
+        }
+        return index;
+    }
+
+    private <V> Map<String, String> valuesByLang(List<V> values,
+                                                 Function<V, String> lang,
+                                                 Function<V, String> value) {
+        if (values == null) return Map.of();
+        return values.stream()
+                .filter(v -> value.apply(v) != null)
+                .collect(Collectors.toMap(v -> lang.apply(v).toLowerCase(), value, (a, b) -> a));
+    }
+
+    private String hash(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(hashMapper.writeValueAsBytes(part instanceof Map<?, ?> map ? new TreeMap<>(map) : part));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to hash mobile config snapshot", e);
+        }
+    }
+}
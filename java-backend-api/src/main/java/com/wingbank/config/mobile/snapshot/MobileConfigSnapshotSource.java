@@ -0,0 +1,47 @@
+package com.wingbank.config.mobile.snapshot;
+
+import com.wingbank.config.country.dto.CountryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializable form of a {@link MobileConfigSnapshot}: the indexed datasets without any
+ * per-request state. This is the unit stored in the {@code mobileConfig} cache (Smile
+ * encoded), so a replica can adopt a snapshot built elsewhere without touching the database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MobileConfigSnapshotSource {
+
+    /** Bumped whenever the layout of this class changes; older cached entries are ignored. */
+    public static final int FORMAT_VERSION = 2;
+
+    private int formatVersion;
+    private String contentHash;
+    private LocalDateTime builtAt;
+    private List<String> languages;
+
+    /** platform → language → translation entries (fallback already applied). */
+    private Map<String, Map<String, List<TranslationEntry>>> translations;
+    private List<CountryResponse> countries;
+    /** platform → config key → value, for ACTIVE configs only. */
+    private Map<String, Map<String, String>> globalConfigs;
+    /** language → error code → message (fallback already applied). */
+    private Map<String, Map<String, String>> apiMessages;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TranslationEntry {
+        private String key;
+        /** {@link com.wingbank.config.common.util.SemanticVersion} sort key; null when the row has no version. */
+        private Long versionSort;
+        private String value;
+    }
+}
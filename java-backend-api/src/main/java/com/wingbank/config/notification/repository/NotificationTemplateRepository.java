@@ -20,23 +20,32 @@ public interface NotificationTemplateRepository extends JpaRepository<Notificati
 
     List<NotificationTemplate> findByStatus(NotificationTemplate.Status status);
 
-    @Query(value = "SELECT DISTINCT n.* FROM notification_templates n " +
-           "LEFT JOIN notification_template_values nv ON n.id = nv.template_id " +
-           "WHERE n.deleted = false " +
-           "AND (:search IS NULL OR LOWER(n.code) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(nv.title) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
+    /** Admin list filters other than the search. */
+    String FILTERS = "n.deleted = false " +
            "AND (:type IS NULL OR n.type = CAST(:type AS TEXT)) " +
-           "AND (:status IS NULL OR n.status = CAST(:status AS TEXT))",
-           countQuery = "SELECT COUNT(DISTINCT n.id) FROM notification_templates n " +
-           "LEFT JOIN notification_template_values nv ON n.id = nv.template_id " +
-           "WHERE n.deleted = false " +
-           "AND (:search IS NULL OR LOWER(n.code) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(nv.title) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
-           "AND (:type IS NULL OR n.type = CAST(:type AS TEXT)) " +
-           "AND (:status IS NULL OR n.status = CAST(:status AS TEXT))",
+           "AND (:status IS NULL OR n.status = CAST(:status AS TEXT))";
+
+    /**
+     * A substring of the code or of any title, as a UNION of id sets so both trigram
+     * indexes are used; an OR around a sub-select scans every template.
+     */
+    String SEARCH = "n.id IN (SELECT c.id FROM notification_templates c " +
+           "WHERE LOWER(c.code) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
+           "UNION SELECT nv.template_id FROM notification_template_values nv " +
+           "WHERE LOWER(nv.title) LIKE LOWER('%' || CAST(:search AS TEXT) || '%'))";
+
+    @Query(value = "SELECT n.* FROM notification_templates n WHERE " + FILTERS,
+           countQuery = "SELECT COUNT(*) FROM notification_templates n WHERE " + FILTERS,
            nativeQuery = true)
-    Page<NotificationTemplate> findAllWithFilters(@Param("search") String search,
-                                                    @Param("type") String type,
+    Page<NotificationTemplate> findAllWithFilters(@Param("type") String type,
                                                     @Param("status") String status,
                                                     Pageable pageable);
+
+    @Query(value = "SELECT n.* FROM notification_templates n WHERE " + SEARCH + " AND " + FILTERS,
+           countQuery = "SELECT COUNT(*) FROM notification_templates n WHERE " + SEARCH + " AND " + FILTERS,
+           nativeQuery = true)
+    Page<NotificationTemplate> searchWithFilters(@Param("search") String search,
+                                                   @Param("type") String type,
+                                                   @Param("status") String status,
+                                                   Pageable pageable);
 }
@@ -3,6 +3,7 @@ package com.wingbank.config.notification.service.impl;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.notification.dto.NotificationTemplateRequest;
 import com.wingbank.config.notification.dto.NotificationTemplateResponse;
 import com.wingbank.config.notification.entity.NotificationTemplate;
@@ -25,11 +26,15 @@ import java.util.stream.Collectors;
 public class NotificationTemplateServiceImpl implements NotificationTemplateService {
 
     private final NotificationTemplateRepository notificationTemplateRepository;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<NotificationTemplateResponse> getAllTemplates(String search, String type, String status, int page, int size) {
-        Page<NotificationTemplate> templatePage = notificationTemplateRepository.findAllWithFilters(search, type, status, PageRequest.of(page, size));
+        searchPlanning.useCustomPlans();
+        Page<NotificationTemplate> templatePage = search != null && !search.isBlank()
+                ? notificationTemplateRepository.searchWithFilters(search, type, status, PageRequest.of(page, size))
+                : notificationTemplateRepository.findAllWithFilters(type, status, PageRequest.of(page, size));
         var content = templatePage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(templatePage, content);
     }
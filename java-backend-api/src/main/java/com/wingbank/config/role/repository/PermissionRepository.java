@@ -34,6 +34,9 @@ public interface PermissionRepository extends JpaRepository<Permission, UUID> {
                                         @Param("module") String module,
                                         Pageable pageable);
 
+    @Query("SELECT p.name FROM Permission p ORDER BY p.name")
+    List<String> findAllNames();
+
     @Query("SELECT DISTINCT p.module FROM Permission p ORDER BY p.module")
     List<String> findDistinctModules();
 }
@@ -1,8 +1,10 @@
 package com.wingbank.config.role.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.PrincipalChangedEvent;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.role.dto.PermissionRequest;
 import com.wingbank.config.role.dto.PermissionResponse;
 import com.wingbank.config.role.entity.Permission;
@@ -10,6 +12,7 @@ import com.wingbank.config.role.repository.PermissionRepository;
 import com.wingbank.config.role.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -25,10 +28,13 @@ import java.util.stream.Collectors;
 public class PermissionServiceImpl implements PermissionService {
 
     private final PermissionRepository permissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<PermissionResponse> getAllPermissions(String search, String module, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<Permission> permissionPage = permissionRepository.findAllWithFilters(search, module, PageRequest.of(page, size));
         var content = permissionPage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(permissionPage, content);
@@ -75,6 +81,7 @@ public class PermissionServiceImpl implements PermissionService {
 
         Permission saved = permissionRepository.save(permission);
         log.info("Permission updated: {}", saved.getName());
+        eventPublisher.publishEvent(PrincipalChangedEvent.all());
         return toResponse(saved);
     }
 
@@ -86,6 +93,7 @@ public class PermissionServiceImpl implements PermissionService {
         permission.setDeleted(true);
         permissionRepository.save(permission);
         log.info("Permission soft deleted: {}", permission.getName());
+        eventPublisher.publishEvent(PrincipalChangedEvent.all());
     }
 
     @Override
@@ -1,8 +1,10 @@
 package com.wingbank.config.role.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.PrincipalChangedEvent;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.role.dto.RoleRequest;
 import com.wingbank.config.role.dto.RoleResponse;
 import com.wingbank.config.role.entity.Permission;
@@ -12,6 +14,7 @@ import com.wingbank.config.role.repository.RoleRepository;
 import com.wingbank.config.role.service.RoleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -29,10 +32,13 @@ public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<RoleResponse> getAllRoles(String search, String status, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<Role> rolePage = roleRepository.findAllWithFilters(search, status, PageRequest.of(page, size));
         var content = rolePage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(rolePage, content);
@@ -90,6 +96,7 @@ public class RoleServiceImpl implements RoleService {
 
         Role saved = roleRepository.save(role);
         log.info("Role updated: {}", saved.getName());
+        eventPublisher.publishEvent(PrincipalChangedEvent.all());
         return toResponse(saved);
     }
 
@@ -101,6 +108,7 @@ public class RoleServiceImpl implements RoleService {
         role.setDeleted(true);
         roleRepository.save(role);
         log.info("Role soft deleted: {}", role.getName());
+        eventPublisher.publishEvent(PrincipalChangedEvent.all());
     }
 
     private RoleResponse toResponse(Role role) {
@@ -0,0 +1,39 @@
+package com.wingbank.config.security.authorization;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Authenticated principal whose permissions are also held as a bitset over the
+ * {@link PermissionIndex.Snapshot} it was built with. Authorities are kept for role checks
+ * and anything that still reads them directly.
+ */
+public class AuthorizedUser extends User {
+
+    private final UUID userId;
+    private final PermissionIndex.Snapshot index;
+    private final BitSet permissions;
+
+    public AuthorizedUser(UUID userId, String username, String password, boolean enabled,
+                          boolean accountNonLocked,
+                          Collection<? extends GrantedAuthority> authorities,
+                          PermissionIndex.Snapshot index, BitSet permissions) {
+        super(username, password, enabled, true, true, accountNonLocked, authorities);
+        this.userId = userId;
+        this.index = index;
+        this.permissions = permissions;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public boolean hasPermission(String permission) {
+        int bit = index.indexOf(permission);
+        return bit >= 0 && permissions.get(bit);
+    }
+}
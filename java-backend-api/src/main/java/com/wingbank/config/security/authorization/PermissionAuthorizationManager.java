@@ -0,0 +1,55 @@
+package com.wingbank.config.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers {@code @PreAuthorize("hasAuthority('X')")} for an {@link AuthorizedUser} with a
+ * single bit test. The expression of each method is parsed once; any other expression, or
+ * any other kind of principal, goes to the standard SpEL-based manager.
+ */
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final Pattern HAS_AUTHORITY = Pattern.compile("^\\s*hasAuthority\\(\\s*'([^']+)'\\s*\\)\\s*$");
+
+    private final PreAuthorizeAuthorizationManager delegate = new PreAuthorizeAuthorizationManager();
+    private final Map<Method, Optional<String>> requiredPermissions = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Optional<String> permission = requiredPermissions.computeIfAbsent(invocation.getMethod(),
+                method -> requiredPermission(method, invocation.getThis()));
+        if (permission.isPresent()) {
+            Authentication current = authentication.get();
+            if (current != null && current.isAuthenticated() && current.getPrincipal() instanceof AuthorizedUser user) {
+                return new AuthorizationDecision(user.hasPermission(permission.get()));
+            }
+        }
+        return delegate.check(authentication, invocation);
+    }
+
+    private static Optional<String> requiredPermission(Method method, Object target) {
+        Method specific = target != null ? AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(target)) : method;
+        PreAuthorize annotation = AnnotatedElementUtils.findMergedAnnotation(specific, PreAuthorize.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(specific.getDeclaringClass(), PreAuthorize.class);
+        }
+        if (annotation == null) return Optional.empty();
+        Matcher matcher = HAS_AUTHORITY.matcher(annotation.value());
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+}
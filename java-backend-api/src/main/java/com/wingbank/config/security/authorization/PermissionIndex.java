@@ -0,0 +1,76 @@
+package com.wingbank.config.security.authorization;
+
+import com.wingbank.config.common.event.PrincipalChangedEvent;
+import com.wingbank.config.role.repository.PermissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense numbering of the permission catalogue so a principal's permissions can be held as a
+ * {@link BitSet}. The catalogue is rebuilt whenever roles or permissions change; a principal
+ * keeps the {@link Snapshot} it was encoded against, so its bits stay meaningful even while a
+ * newer snapshot is being published.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionIndex {
+
+    private final PermissionRepository permissionRepository;
+    private volatile Snapshot current;
+
+    public Snapshot current() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    /** Runs before the principal cache is invalidated so reloaded principals use the new catalogue. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPrincipalChanged(PrincipalChangedEvent event) {
+        if (event.getEmails().isEmpty()) {
+            rebuild();
+        }
+    }
+
+    private synchronized Snapshot rebuild() {
+        List<String> names = permissionRepository.findAllNames();
+        Map<String, Integer> ordinals = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            ordinals.putIfAbsent(name, ordinals.size());
+        }
+        Snapshot snapshot = new Snapshot(Map.copyOf(ordinals));
+        current = snapshot;
+        log.debug("Permission index rebuilt with {} permissions", ordinals.size());
+        return snapshot;
+    }
+
+    public record Snapshot(Map<String, Integer> ordinals) implements Serializable {
+
+        /** Bit position of the permission, or -1 if it is not in the catalogue. */
+        public int indexOf(String permission) {
+            Integer ordinal = ordinals.get(permission);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        public BitSet encode(Collection<String> permissions) {
+            BitSet bits = new BitSet(ordinals.size());
+            for (String permission : permissions) {
+                int index = indexOf(permission);
+                if (index >= 0) bits.set(index);
+            }
+            return bits;
+        }
+    }
+}
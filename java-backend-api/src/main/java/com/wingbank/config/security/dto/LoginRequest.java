@@ -2,6 +2,7 @@ package com.wingbank.config.security.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
@@ -13,4 +14,8 @@ public class LoginRequest {
 
     @NotBlank(message = "Password is required")
     private String password;
+
+    /** Optional stable client id; a new login from the same device replaces its previous session. */
+    @Size(max = 100, message = "Device id must be at most 100 characters")
+    private String deviceId;
 }
@@ -1,7 +1,10 @@
 package com.wingbank.config.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,23 +13,40 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * Issues and verifies HS256 tokens. Verification uses one prebuilt, thread-safe parser, and
+ * the claims of recently verified tokens are kept for a short time keyed by the SHA-256 of
+ * the token, so a client repeating the same bearer token skips re-verification. A cached
+ * entry is never served past the token's own expiry.
+ */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
     private final SecretKey key;
     private final long accessTokenExpiration;
-    private final long refreshTokenExpiration;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String jwtSecret,
             @Value("${app.jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${app.jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${app.jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize,
+            @Value("${app.jwt.verified-cache.ttl-seconds:60}") long verifiedCacheTtlSeconds) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = accessTokenExpiration;
-        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(verifiedCacheTtlSeconds))
+                .build();
     }
 
     public String generateAccessToken(Authentication authentication) {
@@ -38,10 +58,6 @@ public class JwtTokenProvider {
         return generateToken(email, accessTokenExpiration);
     }
 
-    public String generateRefreshToken(String email) {
-        return generateToken(email, refreshTokenExpiration);
-    }
-
     private String generateToken(String subject, long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
@@ -54,29 +70,55 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /** Verifies the signature and expiry once and returns the claims, or empty if the token is not valid. */
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(digest, claims);
+            return Optional.of(claims);
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
             log.error("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+        } catch (SecurityException ex) {
+            log.error("Invalid JWT signature");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getEmailFromToken(String token) {
+        return verify(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new MalformedJwtException("Invalid JWT token"));
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     public long getAccessTokenExpiration() {
@@ -1,5 +1,8 @@
 package com.wingbank.config.security.service;
 
+import com.wingbank.config.role.entity.Permission;
+import com.wingbank.config.security.authorization.AuthorizedUser;
+import com.wingbank.config.security.authorization.PermissionIndex;
 import com.wingbank.config.user.entity.User;
 import com.wingbank.config.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PermissionIndex permissionIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -26,23 +30,29 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        Set<GrantedAuthority> authorities = user.getRoles().stream()
+        Set<String> permissions = user.getRoles().stream()
                 .flatMap(role -> role.getPermissions().stream())
-                .map(permission -> new SimpleGrantedAuthority(permission.getName()))
+                .map(Permission::getName)
+                .collect(Collectors.toSet());
+
+        Set<GrantedAuthority> authorities = permissions.stream()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toSet());
 
         // Also add role names as authorities
         user.getRoles().forEach(role ->
                 authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName())));
 
-        return new org.springframework.security.core.userdetails.User(
+        PermissionIndex.Snapshot index = permissionIndex.current();
+        return new AuthorizedUser(
+                user.getId(),
                 user.getEmail(),
                 user.getPassword(),
                 user.getStatus() == User.Status.ACTIVE,
-                true,
-                true,
                 !user.isAccountLocked(),
-                authorities
+                authorities,
+                index,
+                index.encode(permissions)
         );
     }
 }
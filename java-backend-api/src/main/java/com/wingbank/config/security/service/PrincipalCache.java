@@ -0,0 +1,105 @@
+package com.wingbank.config.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wingbank.config.common.event.PrincipalChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded per-node cache of resolved principals so an authenticated request does not load
+ * the user, roles and permissions on every call. Every entry is stamped with the cache
+ * version current when its load started; any committed {@link PrincipalChangedEvent} bumps
+ * the version, so an entry loaded from rows that were about to change is never served.
+ * Other replicas are told through Redis pub/sub, and the short TTL bounds staleness if a
+ * message is lost.
+ */
+@Component
+@Slf4j
+public class PrincipalCache implements MessageListener {
+
+    private static final String ALL = "*";
+
+    private final UserDetailsService userDetailsService;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final Cache<String, Entry> cache;
+    private final AtomicLong version = new AtomicLong();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PrincipalCache(UserDetailsService userDetailsService, StringRedisTemplate redisTemplate,
+                          @Value("${app.security.principal-cache.channel:principal-cache-invalidation}") String channel,
+                          @Value("${app.security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /** Pub/sub channel this cache listens on; subscribed in RedisConfig. */
+    public String getChannel() {
+        return channel;
+    }
+
+    public UserDetails get(String email) {
+        Entry entry = cache.getIfPresent(email);
+        long current = version.get();
+        if (entry != null && entry.version() == current) {
+            return entry.userDetails();
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        cache.put(email, new Entry(userDetails, current));
+        return userDetails;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrincipalChanged(PrincipalChangedEvent event) {
+        invalidateLocal(event.getEmails());
+        publish(event.getEmails().isEmpty() ? ALL : String.join("\n", event.getEmails()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 2);
+        if (body.length < 2 || nodeId.equals(body[0])) return;
+        invalidateLocal(ALL.equals(body[1]) ? Set.of() : Set.of(body[1].split("\n")));
+    }
+
+    private void invalidateLocal(Set<String> emails) {
+        version.incrementAndGet();
+        if (emails.isEmpty()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(emails);
+        }
+        log.debug("Invalidated cached principals {}", emails.isEmpty() ? "(all)" : emails);
+    }
+
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + "\n" + payload);
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the TTL
+            log.warn("Failed to publish principal invalidation: {}", e.getMessage());
+        }
+    }
+
+    private record Entry(UserDetails userDetails, long version) {}
+}
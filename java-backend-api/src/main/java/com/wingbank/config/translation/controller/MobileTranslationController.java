@@ -1,6 +1,9 @@
 package com.wingbank.config.translation.controller;
 
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.web.VersionedResponse;
+import com.wingbank.config.translation.dto.TranslationDeltaResponse;
 import com.wingbank.config.translation.service.TranslationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +26,7 @@ public class MobileTranslationController {
 
     @GetMapping
     @Operation(summary = "Get translations for mobile app (no authentication required)")
+    @VersionedResponse(ConfigDataset.TRANSLATION)
     public ResponseEntity<ApiResponse<Map<String, String>>> getMobileTranslations(
             @RequestParam(defaultValue = "en") String lang,
             @RequestParam(defaultValue = "1.0") String version,
@@ -30,4 +34,16 @@ public class MobileTranslationController {
         Map<String, String> translations = translationService.getMobileTranslations(lang, platform, version);
         return ResponseEntity.ok(ApiResponse.success(translations));
     }
+
+    /** Not versioned: {@code since} is unique per client, so cached bodies would never be reused. */
+    @GetMapping("/delta")
+    @Operation(summary = "Get translations changed since the last sync token (no authentication required)")
+    public ResponseEntity<ApiResponse<TranslationDeltaResponse>> getMobileTranslationDelta(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "en") String lang,
+            @RequestParam(defaultValue = "1.0") String version,
+            @RequestParam(defaultValue = "ALL") String platform) {
+        return ResponseEntity.ok(ApiResponse.success(
+                translationService.getMobileTranslationDelta(since, lang, platform, version)));
+    }
 }
@@ -1,19 +1,29 @@
 package com.wingbank.config.translation.controller;
 
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.dto.ImportResult;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.transfer.TransferFormat;
 import com.wingbank.config.translation.dto.TranslationRequest;
 import com.wingbank.config.translation.dto.TranslationResponse;
 import com.wingbank.config.translation.service.TranslationService;
+import com.wingbank.config.translation.service.TranslationTransfer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 @RestController
@@ -23,6 +33,7 @@ import java.util.UUID;
 public class TranslationController {
 
     private final TranslationService translationService;
+    private final TranslationTransfer translationTransfer;
 
     @GetMapping
     @PreAuthorize("hasAuthority('TRANSLATION_VIEW')")
@@ -70,4 +81,33 @@ public class TranslationController {
         translationService.deleteTranslation(id);
         return ResponseEntity.ok(ApiResponse.success("Translation deleted successfully", null));
     }
+
+    @PostMapping("/import")
+    @PreAuthorize("hasAuthority('TRANSLATION_CREATE') and hasAuthority('TRANSLATION_UPDATE')")
+    @Operation(summary = "Upsert translations from a CSV or JSON file sent as the request body")
+    public ResponseEntity<ApiResponse<ImportResult>> importTranslations(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) {
+        ImportResult result = translationTransfer.importTranslations(body, TransferFormat.parse(format));
+        return ResponseEntity.ok(ApiResponse.success("Translations imported successfully", result));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('TRANSLATION_VIEW')")
+    @Operation(summary = "Stream translations as CSV or JSON in the import layout")
+    public ResponseEntity<StreamingResponseBody> exportTranslations(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) String platform) {
+        TransferFormat exportFormat = TransferFormat.parse(format);
+        String fileName = "translations-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + "." + exportFormat.getExtension();
+
+        StreamingResponseBody responseBody = out -> translationTransfer.exportTranslations(exportFormat, module, platform, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(responseBody);
+    }
 }
@@ -0,0 +1,46 @@
+package com.wingbank.config.translation.dto;
+
+import com.wingbank.config.translation.entity.Translation;
+import com.wingbank.config.translation.entity.TranslationValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cacheable, entity-free copy of one translation row with all of its language values.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationCatalogEntry {
+
+    private String key;
+    private String platform;
+    private String version;
+
+    /** Lower-case language code → value. */
+    @Builder.Default
+    private Map<String, String> values = new HashMap<>();
+
+    public static TranslationCatalogEntry from(Translation translation) {
+        Map<String, String> values = new HashMap<>();
+        if (translation.getValues() != null) {
+            for (TranslationValue v : translation.getValues()) {
+                if (v.getValue() != null) {
+                    values.putIfAbsent(v.getLanguageCode().toLowerCase(), v.getValue());
+                }
+            }
+        }
+        return TranslationCatalogEntry.builder()
+                .key(translation.getKey())
+                .platform(translation.getPlatform())
+                .version(translation.getVersion())
+                .values(values)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.wingbank.config.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationDeltaResponse {
+
+    /** Pass back as {@code since} on the next sync. */
+    private long syncToken;
+
+    /** When true the client must replace its whole catalogue with {@link #upserts}. */
+    private boolean fullSync;
+
+    @Builder.Default
+    private Map<String, String> upserts = new HashMap<>();
+
+    @Builder.Default
+    private List<String> removed = new ArrayList<>();
+}
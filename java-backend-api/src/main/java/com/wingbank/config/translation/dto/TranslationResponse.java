@@ -2,6 +2,7 @@ package com.wingbank.config.translation.dto;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,6 +27,10 @@ public class TranslationResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /** Escaped HTML snippet of the matching values; only set on search results. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlight;
+
     @JsonIgnore
     @Builder.Default
     private Map<String, String> languageValues = new HashMap<>();
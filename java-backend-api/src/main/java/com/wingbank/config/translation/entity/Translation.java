@@ -28,6 +28,10 @@ public class Translation extends AuditEntity {
     @Column(columnDefinition = "VARCHAR(20) DEFAULT '1.0'")
     private String version = "1.0";
 
+    /** Generated from {@code version} by the database; see {@code SemanticVersion}. */
+    @Column(name = "version_sort", insertable = false, updatable = false)
+    private Long versionSort;
+
     @Column(columnDefinition = "VARCHAR(20) DEFAULT 'ALL'")
     private String platform = "ALL";
 
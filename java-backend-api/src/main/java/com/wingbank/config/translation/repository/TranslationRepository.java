@@ -1,48 +1,109 @@
 package com.wingbank.config.translation.repository;
 
+import com.wingbank.config.common.dto.SearchHeadline;
 import com.wingbank.config.translation.entity.Translation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TranslationRepository extends JpaRepository<Translation, UUID> {
 
-    @Query(value = "SELECT DISTINCT t.* FROM translations t " +
-           "LEFT JOIN translation_values tv ON t.id = tv.translation_id " +
-           "WHERE t.deleted = false " +
-           "AND (:search IS NULL OR LOWER(t.key) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(tv.value) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
+    /** Admin list filters other than the search. */
+    String FILTERS = "t.deleted = false " +
            "AND (:module IS NULL OR t.module = CAST(:module AS TEXT)) " +
-           "AND (:platform IS NULL OR t.platform = CAST(:platform AS TEXT) OR t.platform = 'ALL')",
-           countQuery = "SELECT COUNT(DISTINCT t.id) FROM translations t " +
-           "LEFT JOIN translation_values tv ON t.id = tv.translation_id " +
-           "WHERE t.deleted = false " +
-           "AND (:search IS NULL OR LOWER(t.key) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
-           "OR LOWER(tv.value) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
-           "AND (:module IS NULL OR t.module = CAST(:module AS TEXT)) " +
-           "AND (:platform IS NULL OR t.platform = CAST(:platform AS TEXT) OR t.platform = 'ALL')",
+           "AND (:platform IS NULL OR t.platform = CAST(:platform AS TEXT) OR t.platform = 'ALL')";
+
+    /**
+     * A substring of the key or the full-text document of the key and all values (see V19,
+     * kept current by triggers). Written as a UNION of id sets so each branch is answered
+     * from its own GIN index; an OR around a sub-select cannot become a join and scans
+     * every translation.
+     */
+    String SEARCH = "t.id IN (SELECT k.id FROM translations k " +
+           "WHERE LOWER(k.key) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
+           "UNION SELECT s.translation_id FROM translation_search s " +
+           "WHERE s.document @@ (SELECT search_query(CAST(:search AS TEXT))))";
+
+    @Query(value = "SELECT t.* FROM translations t WHERE " + FILTERS + " ORDER BY t.key",
+           countQuery = "SELECT COUNT(*) FROM translations t WHERE " + FILTERS,
            nativeQuery = true)
-    Page<Translation> findAllWithFilters(@Param("search") String search,
-                                          @Param("module") String module,
+    Page<Translation> findAllWithFilters(@Param("module") String module,
                                           @Param("platform") String platform,
                                           Pageable pageable);
 
+    /** Exact key matches first, then by rank. */
+    @Query(value = "SELECT t.* FROM translations t " +
+           "LEFT JOIN translation_search ts ON ts.translation_id = t.id " +
+           "WHERE " + SEARCH + " AND " + FILTERS + " " +
+           "ORDER BY LOWER(t.key) = LOWER(CAST(:search AS TEXT)) DESC, " +
+           "ts_rank(ts.document, (SELECT search_query(CAST(:search AS TEXT)))) DESC NULLS LAST, t.key",
+           countQuery = "SELECT COUNT(*) FROM translations t WHERE " + SEARCH + " AND " + FILTERS,
+           nativeQuery = true)
+    Page<Translation> searchWithFilters(@Param("search") String search,
+                                         @Param("module") String module,
+                                         @Param("platform") String platform,
+                                         Pageable pageable);
+
+    /** Highlighted snippet of the values of each translation for the given search. */
+    @Query(value = "SELECT t.id AS \"id\", search_headline(" +
+           "(SELECT string_agg(tv.value, ' | ' ORDER BY tv.language_code) FROM translation_values tv " +
+           "WHERE tv.translation_id = t.id), CAST(:search AS TEXT)) AS \"headline\" " +
+           "FROM translations t WHERE t.id IN (:ids)",
+           nativeQuery = true)
+    List<SearchHeadline> findHeadlines(@Param("ids") Collection<UUID> ids, @Param("search") String search);
+
+    /** Every live translation with its values in a single statement; used to build the mobile snapshot. */
+    @EntityGraph(attributePaths = "values")
+    @Query("SELECT t FROM Translation t")
+    List<Translation> findAllWithValues();
+
+    @EntityGraph(attributePaths = "values")
+    List<Translation> findByPlatform(String platform);
+
     @Query("SELECT t FROM Translation t WHERE " +
            "(t.platform = :platform OR t.platform = 'ALL') " +
-           "AND (:version IS NULL OR t.version <= :version)")
+           "AND (:versionSort IS NULL OR t.versionSort <= :versionSort)")
     List<Translation> findByPlatformAndVersion(@Param("platform") String platform,
-                                                @Param("version") String version);
+                                                @Param("versionSort") Long versionSort);
 
+    @EntityGraph(attributePaths = "values")
     @Query("SELECT t FROM Translation t WHERE " +
-           "(t.platform = :platform OR t.platform = 'ALL') " +
-           "AND t.version > :version")
-    List<Translation> findDeltaTranslations(@Param("platform") String platform,
-                                             @Param("version") String version);
+           "t.key IN :keys " +
+           "AND (t.platform = :platform OR t.platform = 'ALL') " +
+           "AND (:versionSort IS NULL OR t.versionSort <= :versionSort)")
+    List<Translation> findByKeysAndPlatformAndVersion(@Param("keys") Collection<String> keys,
+                                                      @Param("platform") String platform,
+                                                      @Param("versionSort") Long versionSort);
+
+    /**
+     * Keys visible to {@code platform} whose row or tombstone was written by a transaction at
+     * or after the {@code since} watermark. Native so that soft-deleted rows are included.
+     */
+    @Query(value = "SELECT t.key FROM translations t " +
+           "WHERE t.change_xid >= CAST(CAST(:since AS TEXT) AS XID8) " +
+           "AND (t.platform = :platform OR t.platform = 'ALL') " +
+           "UNION " +
+           "SELECT ts.key FROM translation_tombstones ts " +
+           "WHERE ts.change_xid >= CAST(CAST(:since AS TEXT) AS XID8) " +
+           "AND (ts.platform = :platform OR ts.platform = 'ALL')",
+           nativeQuery = true)
+    List<String> findKeysChangedSince(@Param("since") long since,
+                                      @Param("platform") String platform);
+
+    /**
+     * Oldest transaction still in flight when this statement's snapshot was taken. Every row
+     * not visible to a read that follows was written at or after it; see V20.
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)",
+           nativeQuery = true)
+    long findSyncWatermark();
 }
@@ -0,0 +1,31 @@
+package com.wingbank.config.translation.service;
+
+import com.wingbank.config.common.cache.CacheNames;
+import com.wingbank.config.translation.dto.TranslationCatalogEntry;
+import com.wingbank.config.translation.repository.TranslationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cached translation rows per exact platform value. Callers merge the ALL catalog with
+ * a platform catalog themselves so that a change only invalidates the platform it touched.
+ */
+@Component
+@RequiredArgsConstructor
+public class TranslationCatalog {
+
+    private final TranslationRepository translationRepository;
+
+    @Cacheable(value = CacheNames.TRANSLATIONS, key = "#platform", unless = "#result.isEmpty()")
+    @Transactional(readOnly = true)
+    public List<TranslationCatalogEntry> getEntries(String platform) {
+        return translationRepository.findByPlatform(platform).stream()
+                .map(TranslationCatalogEntry::from)
+                .collect(Collectors.toList());
+    }
+}
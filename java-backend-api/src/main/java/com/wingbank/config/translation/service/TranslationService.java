@@ -1,6 +1,7 @@
 package com.wingbank.config.translation.service;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.translation.dto.TranslationDeltaResponse;
 import com.wingbank.config.translation.dto.TranslationRequest;
 import com.wingbank.config.translation.dto.TranslationResponse;
 
@@ -20,4 +21,6 @@ public interface TranslationService {
     void deleteTranslation(UUID id);
 
     Map<String, String> getMobileTranslations(String lang, String platform, String version);
+
+    TranslationDeltaResponse getMobileTranslationDelta(Long since, String lang, String platform, String version);
 }
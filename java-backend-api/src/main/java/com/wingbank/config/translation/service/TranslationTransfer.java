@@ -0,0 +1,187 @@
+package com.wingbank.config.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wingbank.config.audit.entity.AuditLog;
+import com.wingbank.config.audit.service.AuditLogWriter;
+import com.wingbank.config.common.dto.ImportResult;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.transfer.LanguageRow;
+import com.wingbank.config.common.transfer.LanguageRowTransfer;
+import com.wingbank.config.common.transfer.TransferFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk CSV/JSON import and streaming export of translations. An import upserts by
+ * (key, platform): a missing module or version keeps the stored one (new rows default to
+ * version 1.0), soft-deleted rows are restored, and only the languages present in a row
+ * are written. Rows that change nothing are not rewritten, so they do not bump the mobile
+ * sync sequence.
+ */
+@Component
+@Slf4j
+public class TranslationTransfer extends LanguageRowTransfer {
+
+    private static final List<String> FIELDS = List.of("key", "module", "version", "platform");
+    private static final String DEFAULT_PLATFORM = "ALL";
+    private static final String DEFAULT_VERSION = "1.0";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogWriter auditLogWriter;
+
+    public TranslationTransfer(DataSource dataSource, PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                               AuditLogWriter auditLogWriter) {
+        super(dataSource, transactionManager, objectMapper);
+        this.eventPublisher = eventPublisher;
+        this.auditLogWriter = auditLogWriter;
+    }
+
+    public ImportResult importTranslations(InputStream in, TransferFormat format) {
+        String user = currentUser();
+        Set<String> platforms = new HashSet<>();
+        ImportResult result = runImport(in, format, Set.copyOf(FIELDS), this::validate, TranslationTransfer::identity,
+                rows -> upsert(rows, user, platforms),
+                () -> {
+                    if (!platforms.isEmpty()) {
+                        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.TRANSLATION,
+                                platforms.toArray(String[]::new)));
+                    }
+                });
+
+        log.info("Translations imported: {} rows, {} created, {} updated, {} skipped",
+                result.getTotal(), result.getCreated(), result.getUpdated(), result.getSkipped());
+        auditLogWriter.enqueue(AuditLog.builder().userEmail(user).action("IMPORT").entityType("Translation").build(),
+                null, summary(result));
+        return result;
+    }
+
+    public void exportTranslations(TransferFormat format, String module, String platform, OutputStream out)
+            throws IOException {
+        runExport(out, format, FIELDS,
+                "SELECT DISTINCT language_code FROM translation_values ORDER BY language_code",
+                "SELECT t.key, t.module, t.version, t.platform, " +
+                "(SELECT jsonb_object_agg(tv.language_code, tv.value) FROM translation_values tv " +
+                "WHERE tv.translation_id = t.id AND tv.value IS NOT NULL) " +
+                "FROM translations t WHERE t.deleted = false " +
+                "AND (CAST(:module AS TEXT) IS NULL OR t.module = CAST(:module AS TEXT)) " +
+                "AND (CAST(:platform AS TEXT) IS NULL OR t.platform = CAST(:platform AS TEXT)) " +
+                "ORDER BY t.key, t.platform",
+                new MapSqlParameterSource()
+                        .addValue("module", module, Types.VARCHAR)
+                        .addValue("platform", platform, Types.VARCHAR));
+    }
+
+    private String validate(LanguageRow row) {
+        String key = row.field("key");
+        if (key == null) return "Translation key is required";
+        if (key.length() > 255) return "Translation key must be at most 255 characters";
+        if (length(row.field("module")) > 100) return "Module must be at most 100 characters";
+        if (length(row.field("version")) > 20) return "Version must be at most 20 characters";
+        if (length(row.field("platform")) > 20) return "Platform must be at most 20 characters";
+        for (String language : row.values().keySet()) {
+            if (!LanguageRow.isLanguageCode(language)) return "Invalid language code '" + language + "'";
+        }
+        return null;
+    }
+
+    private static String identity(LanguageRow row) {
+        return platformOf(row) + "/" + row.field("key");
+    }
+
+    private static String platformOf(LanguageRow row) {
+        String platform = row.field("platform");
+        return platform != null ? platform : DEFAULT_PLATFORM;
+    }
+
+    private long[] upsert(List<LanguageRow> rows, String user, Set<String> platforms) {
+        Map<String, Existing> existing = loadExisting(rows);
+
+        StringBuilder sql = new StringBuilder("INSERT INTO translations (key, module, version, platform, created_by) VALUES ");
+        List<Object> args = new ArrayList<>();
+        long created = 0;
+        Set<String> updated = new HashSet<>();
+        for (LanguageRow row : rows) {
+            Existing current = existing.get(identity(row));
+            String module = row.fields().containsKey("module") || current == null ? row.field("module") : current.module();
+            String version = row.field("version") != null ? row.field("version")
+                    : current != null && current.version() != null ? current.version() : DEFAULT_VERSION;
+            if (current == null) {
+                created++;
+            } else if (current.deleted() || !Objects.equals(module, current.module())
+                    || !Objects.equals(version, current.version())) {
+                updated.add(identity(row));
+            } else {
+                continue;
+            }
+            sql.append(args.isEmpty() ? "" : ", ").append("(?, ?, ?, ?, ?)");
+            args.add(text(row.field("key")));
+            args.add(text(module));
+            args.add(text(version));
+            args.add(text(platformOf(row)));
+            args.add(text(user));
+            platforms.add(platformOf(row));
+        }
+        if (!args.isEmpty()) {
+            sql.append(" ON CONFLICT (key, platform) DO UPDATE SET module = EXCLUDED.module, " +
+                    "version = EXCLUDED.version, deleted = false, updated_at = CURRENT_TIMESTAMP");
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+
+        Set<UUID> valuesChanged = upsertValues(rows, "translations", List.of("key", "platform"),
+                row -> List.of(row.field("key"), platformOf(row)),
+                "translation_values", "translation_id", "value");
+        for (LanguageRow row : rows) {
+            Existing current = existing.get(identity(row));
+            if (current != null && valuesChanged.contains(current.id())) {
+                updated.add(identity(row));
+                platforms.add(platformOf(row));
+            }
+        }
+        return new long[] {created, updated.size()};
+    }
+
+    /** Current state of the chunk's rows, deleted ones included, keyed by {@link #identity}. */
+    private Map<String, Existing> loadExisting(List<LanguageRow> rows) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, key, module, version, platform, deleted FROM translations WHERE (key, platform) IN (");
+        List<Object> args = new ArrayList<>(rows.size() * 2);
+        for (LanguageRow row : rows) {
+            sql.append(args.isEmpty() ? "" : ", ").append("(?, ?)");
+            args.add(text(row.field("key")));
+            args.add(text(platformOf(row)));
+        }
+        sql.append(')');
+        Map<String, Existing> existing = new HashMap<>(rows.size() * 2);
+        jdbcTemplate.query(sql.toString(), rs -> {
+            existing.put(rs.getString("platform") + "/" + rs.getString("key"), new Existing(
+                    rs.getObject("id", UUID.class), rs.getString("module"), rs.getString("version"),
+                    rs.getBoolean("deleted")));
+        }, args.toArray());
+        return existing;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private record Existing(UUID id, String module, String version, boolean deleted) {}
+}
@@ -1,21 +1,30 @@
 package com.wingbank.config.translation.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
+import com.wingbank.config.common.util.SemanticVersion;
+import com.wingbank.config.translation.dto.TranslationCatalogEntry;
+import com.wingbank.config.translation.dto.TranslationDeltaResponse;
 import com.wingbank.config.translation.dto.TranslationRequest;
 import com.wingbank.config.translation.dto.TranslationResponse;
 import com.wingbank.config.translation.entity.Translation;
 import com.wingbank.config.translation.entity.TranslationValue;
 import com.wingbank.config.translation.repository.TranslationRepository;
+import com.wingbank.config.translation.service.TranslationCatalog;
 import com.wingbank.config.translation.service.TranslationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,12 +33,25 @@ import java.util.stream.Collectors;
 public class TranslationServiceImpl implements TranslationService {
 
     private final TranslationRepository translationRepository;
+    private final TranslationCatalog translationCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<TranslationResponse> getAllTranslations(String search, String module, String platform, int page, int size) {
-        Page<Translation> translationPage = translationRepository.findAllWithFilters(search, module, platform, PageRequest.of(page, size));
+        searchPlanning.useCustomPlans();
+        boolean searching = search != null && !search.isBlank();
+        Page<Translation> translationPage = searching
+                ? translationRepository.searchWithFilters(search, module, platform, PageRequest.of(page, size))
+                : translationRepository.findAllWithFilters(module, platform, PageRequest.of(page, size));
         var content = translationPage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
+        if (searching && !content.isEmpty()) {
+            Map<UUID, String> headlines = new HashMap<>();
+            translationRepository.findHeadlines(content.stream().map(TranslationResponse::getId).toList(), search)
+                    .forEach(h -> headlines.put(h.getId(), h.getHeadline()));
+            content.forEach(r -> r.setHighlight(headlines.get(r.getId())));
+        }
         return PagedResponse.from(translationPage, content);
     }
 
@@ -53,6 +75,7 @@ public class TranslationServiceImpl implements TranslationService {
 
         Translation saved = translationRepository.save(translation);
         log.info("Translation created: {}", saved.getKey());
+        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.TRANSLATION, saved.getPlatform()));
         return toResponse(saved);
     }
 
@@ -61,6 +84,7 @@ public class TranslationServiceImpl implements TranslationService {
     public TranslationResponse updateTranslation(UUID id, TranslationRequest request) {
         Translation translation = translationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Translation", "id", id));
+        String previousPlatform = translation.getPlatform();
 
         translation.setKey(request.getKey());
         translation.setModule(request.getModule());
@@ -74,6 +98,8 @@ public class TranslationServiceImpl implements TranslationService {
 
         Translation saved = translationRepository.save(translation);
         log.info("Translation updated: {}", saved.getKey());
+        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.TRANSLATION,
+                previousPlatform, saved.getPlatform()));
         return toResponse(saved);
     }
 
@@ -85,39 +111,92 @@ public class TranslationServiceImpl implements TranslationService {
         translation.setDeleted(true);
         translationRepository.save(translation);
         log.info("Translation soft deleted: {}", translation.getKey());
+        eventPublisher.publishEvent(ConfigChangedEvent.forPlatforms(ConfigDataset.TRANSLATION, translation.getPlatform()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Map<String, String> getMobileTranslations(String lang, String platform, String version) {
+        return resolveCatalog(translationCatalog::getEntries, lang, platform, version);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TranslationDeltaResponse getMobileTranslationDelta(Long since, String lang, String platform, String version) {
+        String resolvedPlatform = platform != null ? platform : "ALL";
+
+        // Take the watermark before reading data: anything that commits later is at or above it
+        long syncToken = translationRepository.findSyncWatermark();
+
+        if (since == null || since <= 0 || since > syncToken) {
+            // Straight from the database, not the catalog cache: a cached entry may predate a
+            // commit below the token, and no later delta would resend that change
+            return TranslationDeltaResponse.builder()
+                    .syncToken(syncToken)
+                    .fullSync(true)
+                    .upserts(resolveCatalog(p -> translationRepository.findByPlatform(p).stream()
+                            .map(TranslationCatalogEntry::from)
+                            .collect(Collectors.toList()), lang, resolvedPlatform, version))
+                    .build();
+        }
+
+        List<String> changedKeys = translationRepository.findKeysChangedSince(since, resolvedPlatform);
+        if (changedKeys.isEmpty()) {
+            return TranslationDeltaResponse.builder().syncToken(syncToken).build();
+        }
+
+        // Re-resolve each changed key: removing a platform override can fall back to the ALL row
+        Map<String, String> upserts = resolveValues(translationRepository.findByKeysAndPlatformAndVersion(
+                        changedKeys, resolvedPlatform, SemanticVersion.sortKey(version)).stream()
+                .map(TranslationCatalogEntry::from)
+                .collect(Collectors.toList()), lang);
+        List<String> removed = changedKeys.stream()
+                .filter(key -> !upserts.containsKey(key))
+                .sorted()
+                .collect(Collectors.toList());
+
+        return TranslationDeltaResponse.builder()
+                .syncToken(syncToken)
+                .upserts(upserts)
+                .removed(removed)
+                .build();
+    }
+
+    /** The ALL rows plus the platform's own rows up to {@code version}, resolved for {@code lang}. */
+    private Map<String, String> resolveCatalog(Function<String, List<TranslationCatalogEntry>> entriesByPlatform,
+                                               String lang, String platform, String version) {
         String resolvedPlatform = platform != null ? platform : "ALL";
-        String resolvedVersion = version != null ? version : "999.0";
+        long maxVersion = version != null ? SemanticVersion.parse(version).sortKey() : Long.MAX_VALUE;
 
-        List<Translation> translations = translationRepository.findByPlatformAndVersion(resolvedPlatform, resolvedVersion);
+        List<TranslationCatalogEntry> entries = new ArrayList<>(entriesByPlatform.apply("ALL"));
+        if (!"ALL".equals(resolvedPlatform)) {
+            entries.addAll(entriesByPlatform.apply(resolvedPlatform));
+        }
+        entries.removeIf(e -> !SemanticVersion.isAtMost(e.getVersion(), maxVersion));
+        return resolveValues(entries, lang);
+    }
 
+    /**
+     * Resolve key → value for the requested language, falling back to 'en'.
+     * Platform-specific rows take precedence over ALL rows for the same key.
+     */
+    private Map<String, String> resolveValues(List<TranslationCatalogEntry> entries, String lang) {
+        List<TranslationCatalogEntry> ordered = new ArrayList<>(entries);
+        ordered.sort(Comparator.comparing((TranslationCatalogEntry e) -> !"ALL".equals(e.getPlatform()))
+                .thenComparing(TranslationCatalogEntry::getKey));
+
+        String langKey = lang.toLowerCase();
         Map<String, String> result = new LinkedHashMap<>();
-        for (Translation t : translations) {
+        for (TranslationCatalogEntry e : ordered) {
             // Find value for requested language, fallback to 'en'
-            String value = getValueForLang(t, lang);
-            if (value == null) {
-                value = getValueForLang(t, "en");
-            }
+            String value = e.getValues().getOrDefault(langKey, e.getValues().get("en"));
             if (value != null) {
-                result.put(t.getKey(), value);
+                result.put(e.getKey(), value);
             }
         }
         return result;
     }
 
-    private String getValueForLang(Translation t, String lang) {
-        if (t.getValues() == null) return null;
-        return t.getValues().stream()
-                .filter(v -> v.getLanguageCode().equalsIgnoreCase(lang))
-                .map(TranslationValue::getValue)
-                .findFirst()
-                .orElse(null);
-    }
-
     /**
      * Apply language values from request to entity.
      * Request map keys are like "enValue", "kmValue" → extract lang code from prefix.
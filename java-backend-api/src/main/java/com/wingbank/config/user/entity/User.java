@@ -43,9 +43,6 @@ public class User extends AuditEntity {
     @Column(name = "locked_until")
     private LocalDateTime lockedUntil;
 
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
             name = "user_roles",
@@ -4,9 +4,11 @@ import com.wingbank.config.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +20,15 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsByEmail(String email);
 
+    /** Fallback failed-login counter, used only while the Redis login throttle is unavailable. */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.failedLoginAttempts = u.failedLoginAttempts + 1 WHERE u.id = :id")
+    void incrementFailedLoginAttempts(@Param("id") UUID id);
+
+    @Query("SELECT u.failedLoginAttempts FROM User u WHERE u.id = :id")
+    int findFailedLoginAttempts(@Param("id") UUID id);
+
     @Query(value = "SELECT * FROM users WHERE deleted = false " +
            "AND (:search IS NULL OR LOWER(full_name) LIKE LOWER('%' || CAST(:search AS TEXT) || '%') " +
            "OR LOWER(email) LIKE LOWER('%' || CAST(:search AS TEXT) || '%')) " +
@@ -1,8 +1,10 @@
 package com.wingbank.config.user.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.PrincipalChangedEvent;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.SearchPlanning;
 import com.wingbank.config.role.entity.Role;
 import com.wingbank.config.role.repository.RoleRepository;
 import com.wingbank.config.user.dto.UserRequest;
@@ -12,6 +14,7 @@ import com.wingbank.config.user.repository.UserRepository;
 import com.wingbank.config.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,10 +34,13 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchPlanning searchPlanning;
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<UserResponse> getAllUsers(String search, String status, int page, int size) {
+        searchPlanning.useCustomPlans();
         Page<User> userPage = userRepository.findAllWithFilters(search, status, PageRequest.of(page, size));
         var content = userPage.getContent().stream().map(this::toResponse).collect(Collectors.toList());
         return PagedResponse.from(userPage, content);
@@ -82,6 +88,7 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Email already exists: " + request.getEmail());
         }
 
+        String previousEmail = user.getEmail();
         user.setEmail(request.getEmail());
         user.setFullName(request.getFullName());
         user.setPhone(request.getPhone());
@@ -99,6 +106,7 @@ public class UserServiceImpl implements UserService {
 
         User saved = userRepository.save(user);
         log.info("User updated: {}", saved.getEmail());
+        eventPublisher.publishEvent(PrincipalChangedEvent.forUsers(previousEmail, saved.getEmail()));
         return toResponse(saved);
     }
 
@@ -110,6 +118,7 @@ public class UserServiceImpl implements UserService {
         user.setDeleted(true);
         userRepository.save(user);
         log.info("User soft deleted: {}", user.getEmail());
+        eventPublisher.publishEvent(PrincipalChangedEvent.forUsers(user.getEmail()));
     }
 
     @Override
@@ -121,6 +130,7 @@ public class UserServiceImpl implements UserService {
         user.setRoles(new HashSet<>(roles));
         User saved = userRepository.save(user);
         log.info("Roles assigned to user: {}", saved.getEmail());
+        eventPublisher.publishEvent(PrincipalChangedEvent.forUsers(saved.getEmail()));
         return toResponse(saved);
     }
 
@@ -1,6 +1,8 @@
 package com.wingbank.config.wingplus.banner.controller;
 
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.wingplus.banner.dto.WingBannerRequest;
 import com.wingbank.config.wingplus.banner.dto.WingBannerResponse;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -48,6 +51,12 @@ public class WingBannerController {
         return ResponseEntity.ok(ApiResponse.success("Banner updated", service.update(id, req)));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('WING_BANNER_CREATE') and hasAuthority('WING_BANNER_UPDATE')")
+    public ResponseEntity<ApiResponse<BulkResult>> bulkUpsert(@RequestBody List<BulkUpsertItem<WingBannerRequest>> items) {
+        return ResponseEntity.ok(ApiResponse.success("Banners upserted", service.bulkUpsert(items)));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('WING_BANNER_DELETE')")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable UUID id) {
@@ -0,0 +1,11 @@
+package com.wingbank.config.wingplus.banner.dto;
+
+import java.util.UUID;
+
+/** Active banner with its image already resolved to one language. */
+public interface WingBannerMobileView {
+    UUID getId();
+    String getImageUrl();
+    String getLinkUrl();
+    int getSortOrder();
+}
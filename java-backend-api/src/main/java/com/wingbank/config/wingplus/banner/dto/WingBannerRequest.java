@@ -1,4 +1,5 @@
 package com.wingbank.config.wingplus.banner.dto;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import java.util.Map;
 @Data
@@ -6,5 +7,5 @@ public class WingBannerRequest {
     private String linkUrl;
     private int sortOrder;
     private String status;
-    private Map<String, WingBannerTranslationData> translations;
+    private Map<@Size(max = 10) String, WingBannerTranslationData> translations;
 }
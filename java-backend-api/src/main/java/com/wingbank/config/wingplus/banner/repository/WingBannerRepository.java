@@ -1,20 +1,25 @@
 package com.wingbank.config.wingplus.banner.repository;
 
+import com.wingbank.config.wingplus.banner.dto.WingBannerMobileView;
 import com.wingbank.config.wingplus.banner.entity.WingBanner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface WingBannerRepository extends JpaRepository<WingBanner, UUID> {
 
-    List<WingBanner> findByStatusOrderBySortOrder(WingBanner.Status status);
+    /** Bulk upsert targets with their translations, in one statement. */
+    @EntityGraph(attributePaths = "translations")
+    List<WingBanner> findByIdIn(Collection<UUID> ids);
 
     @Query(value = "SELECT * FROM wing_banners WHERE deleted = false " +
            "AND (:status IS NULL OR status = CAST(:status AS TEXT)) ORDER BY sort_order",
@@ -22,4 +27,19 @@ public interface WingBannerRepository extends JpaRepository<WingBanner, UUID> {
            "AND (:status IS NULL OR status = CAST(:status AS TEXT))",
            nativeQuery = true)
     Page<WingBanner> findAllWithFilters(@Param("status") String status, Pageable pageable);
+
+    /**
+     * Active banners with the image of the requested language, else English, else any
+     * language. The translation row is picked in SQL so only one row per banner is read.
+     */
+    @Query(value = "SELECT b.id AS \"id\", t.image_url AS \"imageUrl\", " +
+           "b.link_url AS \"linkUrl\", b.sort_order AS \"sortOrder\" " +
+           "FROM wing_banners b " +
+           "LEFT JOIN LATERAL (SELECT bt.image_url FROM wing_banner_translations bt " +
+           "WHERE bt.banner_id = b.id " +
+           "ORDER BY bt.language_code = CAST(:lang AS TEXT) DESC, bt.language_code = 'en' DESC, bt.language_code " +
+           "LIMIT 1) t ON true " +
+           "WHERE b.deleted = false AND b.status = 'ACTIVE' ORDER BY b.sort_order",
+           nativeQuery = true)
+    List<WingBannerMobileView> findActiveForMobile(@Param("lang") String lang);
 }
@@ -1,7 +1,10 @@
 package com.wingbank.config.wingplus.banner.service;
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.wingplus.banner.dto.WingBannerRequest;
 import com.wingbank.config.wingplus.banner.dto.WingBannerResponse;
+import java.util.List;
 import java.util.UUID;
 public interface WingBannerService {
     PagedResponse<WingBannerResponse> getAll(String status, int page, int size);
@@ -9,4 +12,5 @@ public interface WingBannerService {
     WingBannerResponse create(WingBannerRequest request);
     WingBannerResponse update(UUID id, WingBannerRequest request);
     void delete(UUID id);
+    BulkResult bulkUpsert(List<BulkUpsertItem<WingBannerRequest>> items);
 }
@@ -1,7 +1,13 @@
 package com.wingbank.config.wingplus.banner.service.impl;
 
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.BulkUpsert;
 import com.wingbank.config.wingplus.banner.dto.WingBannerRequest;
 import com.wingbank.config.wingplus.banner.dto.WingBannerResponse;
 import com.wingbank.config.wingplus.banner.dto.WingBannerTranslationData;
@@ -9,8 +15,10 @@ import com.wingbank.config.wingplus.banner.entity.WingBanner;
 import com.wingbank.config.wingplus.banner.entity.WingBannerTranslation;
 import com.wingbank.config.wingplus.banner.repository.WingBannerRepository;
 import com.wingbank.config.wingplus.banner.service.WingBannerService;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import java.util.Map;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +32,8 @@ import java.util.stream.Collectors;
 public class WingBannerServiceImpl implements WingBannerService {
 
     private final WingBannerRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override @Transactional(readOnly = true)
     public PagedResponse<WingBannerResponse> getAll(String status, int page, int size) {
@@ -38,6 +48,7 @@ public class WingBannerServiceImpl implements WingBannerService {
     public WingBannerResponse create(WingBannerRequest req) {
         WingBanner e = new WingBanner();
         applyFields(e, req);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -45,6 +56,7 @@ public class WingBannerServiceImpl implements WingBannerService {
     public WingBannerResponse update(UUID id, WingBannerRequest req) {
         WingBanner e = findOrThrow(id);
         applyFields(e, req);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -53,6 +65,25 @@ public class WingBannerServiceImpl implements WingBannerService {
         WingBanner e = findOrThrow(id);
         e.setDeleted(true);
         repository.save(e);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
+    }
+
+    @Override @Transactional
+    public BulkResult bulkUpsert(List<BulkUpsertItem<WingBannerRequest>> items) {
+        BulkResult result = BulkUpsert.run(items, validator, repository::findByIdIn, WingBanner::new,
+                (id, req) -> checkStatus(req.getStatus()), this::applyFields, repository::saveAll);
+        if (result.getFailed() < result.getTotal())
+            eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
+        return result;
+    }
+
+    private static void checkStatus(String status) {
+        if (status == null) return;
+        try {
+            WingBanner.Status.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid status: " + status);
+        }
     }
 
     private void applyFields(WingBanner e, WingBannerRequest req) {
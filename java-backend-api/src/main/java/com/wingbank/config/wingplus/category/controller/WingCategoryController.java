@@ -1,6 +1,8 @@
 package com.wingbank.config.wingplus.category.controller;
 
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.wingplus.category.dto.WingCategoryRequest;
 import com.wingbank.config.wingplus.category.dto.WingCategoryResponse;
@@ -13,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -49,6 +52,12 @@ public class WingCategoryController {
         return ResponseEntity.ok(ApiResponse.success("Category updated", service.update(id, req)));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('WING_CATEGORY_CREATE') and hasAuthority('WING_CATEGORY_UPDATE')")
+    public ResponseEntity<ApiResponse<BulkResult>> bulkUpsert(@RequestBody List<BulkUpsertItem<WingCategoryRequest>> items) {
+        return ResponseEntity.ok(ApiResponse.success("Categories upserted", service.bulkUpsert(items)));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('WING_CATEGORY_DELETE')")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable UUID id) {
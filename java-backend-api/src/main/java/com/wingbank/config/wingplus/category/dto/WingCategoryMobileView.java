@@ -0,0 +1,14 @@
+package com.wingbank.config.wingplus.category.dto;
+
+import java.util.UUID;
+
+/** Active category with its names already resolved to one language. */
+public interface WingCategoryMobileView {
+    UUID getId();
+    String getKey();
+    String getIcon();
+    String getImageUrl();
+    String getName();
+    String getDisplayName();
+    int getSortOrder();
+}
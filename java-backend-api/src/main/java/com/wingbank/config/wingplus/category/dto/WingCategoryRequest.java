@@ -1,6 +1,8 @@
 package com.wingbank.config.wingplus.category.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.util.Map;
@@ -8,10 +10,12 @@ import java.util.Map;
 @Data
 public class WingCategoryRequest {
     @NotBlank(message = "Key is required")
+    @Size(max = 100, message = "Key must be at most 100 characters")
     private String key;
+    @Size(max = 50, message = "Icon must be at most 50 characters")
     private String icon;
     private String imageUrl;
     private int sortOrder;
     private String status;
-    private Map<String, WingCategoryTranslationData> translations;
+    private Map<@Size(max = 10) String, @Valid WingCategoryTranslationData> translations;
 }
@@ -1,9 +1,12 @@
 package com.wingbank.config.wingplus.category.dto;
 
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
 public class WingCategoryTranslationData {
+    @Size(max = 255, message = "Name must be at most 255 characters")
     private String name;
+    @Size(max = 255, message = "Display name must be at most 255 characters")
     private String displayName;
 }
@@ -1,21 +1,33 @@
 package com.wingbank.config.wingplus.category.repository;
 
+import com.wingbank.config.wingplus.category.dto.WingCategoryMobileView;
 import com.wingbank.config.wingplus.category.entity.WingCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface WingCategoryRepository extends JpaRepository<WingCategory, UUID> {
 
+    /** Bulk upsert targets with their translations, in one statement. */
+    @EntityGraph(attributePaths = "translations")
+    List<WingCategory> findByIdIn(Collection<UUID> ids);
+
     boolean existsByKey(String key);
 
+    /** {key, id} of every category, soft-deleted ones included, that holds one of the given keys. */
+    @Query(value = "SELECT key, id FROM wing_categories WHERE key IN (:keys)", nativeQuery = true)
+    List<Object[]> findKeyOwners(@Param("keys") Collection<String> keys);
+
+    @EntityGraph(attributePaths = "translations")
     List<WingCategory> findByStatusOrderBySortOrder(WingCategory.Status status);
 
     @Query(value = "SELECT * FROM wing_categories WHERE deleted = false " +
@@ -27,4 +39,21 @@ public interface WingCategoryRepository extends JpaRepository<WingCategory, UUID
            nativeQuery = true)
     Page<WingCategory> findAllWithFilters(@Param("search") String search,
                                           @Param("status") String status, Pageable pageable);
+
+    /**
+     * Active categories with names in the requested language, else English, else any
+     * language; the category key stands in when there is no translation at all.
+     */
+    @Query(value = "SELECT c.id AS \"id\", c.key AS \"key\", c.icon AS \"icon\", c.image_url AS \"imageUrl\", " +
+           "CASE WHEN t.language_code IS NULL THEN c.key ELSE t.name END AS \"name\", " +
+           "CASE WHEN t.language_code IS NULL THEN c.key ELSE t.display_name END AS \"displayName\", " +
+           "c.sort_order AS \"sortOrder\" " +
+           "FROM wing_categories c " +
+           "LEFT JOIN LATERAL (SELECT ct.language_code, ct.name, ct.display_name FROM wing_category_translations ct " +
+           "WHERE ct.category_id = c.id " +
+           "ORDER BY ct.language_code = CAST(:lang AS TEXT) DESC, ct.language_code = 'en' DESC, ct.language_code " +
+           "LIMIT 1) t ON true " +
+           "WHERE c.deleted = false AND c.status = 'ACTIVE' ORDER BY c.sort_order",
+           nativeQuery = true)
+    List<WingCategoryMobileView> findActiveForMobile(@Param("lang") String lang);
 }
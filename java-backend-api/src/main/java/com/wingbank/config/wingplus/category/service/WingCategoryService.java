@@ -1,5 +1,7 @@
 package com.wingbank.config.wingplus.category.service;
 
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.wingplus.category.dto.WingCategoryRequest;
 import com.wingbank.config.wingplus.category.dto.WingCategoryResponse;
@@ -13,5 +15,6 @@ public interface WingCategoryService {
     WingCategoryResponse create(WingCategoryRequest request);
     WingCategoryResponse update(UUID id, WingCategoryRequest request);
     void delete(UUID id);
+    BulkResult bulkUpsert(List<BulkUpsertItem<WingCategoryRequest>> items);
     List<WingCategoryResponse> getActive();
 }
@@ -1,8 +1,13 @@
 package com.wingbank.config.wingplus.category.service.impl;
 
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
 import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.BulkUpsert;
 import com.wingbank.config.wingplus.category.dto.WingCategoryRequest;
 import com.wingbank.config.wingplus.category.dto.WingCategoryResponse;
 import com.wingbank.config.wingplus.category.dto.WingCategoryTranslationData;
@@ -10,8 +15,10 @@ import com.wingbank.config.wingplus.category.entity.WingCategory;
 import com.wingbank.config.wingplus.category.entity.WingCategoryTranslation;
 import com.wingbank.config.wingplus.category.repository.WingCategoryRepository;
 import com.wingbank.config.wingplus.category.service.WingCategoryService;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import java.util.Map;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +32,8 @@ import java.util.stream.Collectors;
 public class WingCategoryServiceImpl implements WingCategoryService {
 
     private final WingCategoryRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override @Transactional(readOnly = true)
     public PagedResponse<WingCategoryResponse> getAll(String search, String status, int page, int size) {
@@ -41,6 +50,7 @@ public class WingCategoryServiceImpl implements WingCategoryService {
             throw new BadRequestException("Category key already exists: " + req.getKey());
         WingCategory e = new WingCategory();
         applyFields(e, req);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -50,6 +60,7 @@ public class WingCategoryServiceImpl implements WingCategoryService {
         if (!e.getKey().equals(req.getKey()) && repository.existsByKey(req.getKey()))
             throw new BadRequestException("Category key already exists: " + req.getKey());
         applyFields(e, req);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -58,6 +69,7 @@ public class WingCategoryServiceImpl implements WingCategoryService {
         WingCategory e = findOrThrow(id);
         e.setDeleted(true);
         repository.save(e);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
     }
 
     @Override @Transactional(readOnly = true)
@@ -66,6 +78,41 @@ public class WingCategoryServiceImpl implements WingCategoryService {
                 .stream().map(this::toResponse).collect(Collectors.toList());
     }
 
+    /**
+     * A key is free if no category held it when the batch started and no earlier item claimed
+     * it; keys are not swapped between categories within one batch.
+     */
+    @Override @Transactional
+    public BulkResult bulkUpsert(List<BulkUpsertItem<WingCategoryRequest>> items) {
+        Set<String> keys = items.stream().filter(Objects::nonNull).map(BulkUpsertItem::getData)
+                .filter(Objects::nonNull).map(WingCategoryRequest::getKey).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<String, UUID> owners = new HashMap<>();
+        if (!keys.isEmpty()) {
+            for (Object[] row : repository.findKeyOwners(keys)) owners.put((String) row[0], (UUID) row[1]);
+        }
+        Set<String> claimed = new HashSet<>();
+        BulkResult result = BulkUpsert.run(items, validator, repository::findByIdIn, WingCategory::new, (id, req) -> {
+            if (req.getKey() == null || req.getKey().isBlank()) throw new BadRequestException("Key is required");
+            checkStatus(req.getStatus());
+            UUID owner = owners.get(req.getKey());
+            if ((owner != null && !owner.equals(id)) || claimed.contains(req.getKey()))
+                throw new BadRequestException("Category key already exists: " + req.getKey());
+            claimed.add(req.getKey());
+        }, this::applyFields, repository::saveAll);
+        if (result.getFailed() < result.getTotal())
+            eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
+        return result;
+    }
+
+    private static void checkStatus(String status) {
+        if (status == null) return;
+        try {
+            WingCategory.Status.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid status: " + status);
+        }
+    }
+
     private void applyFields(WingCategory e, WingCategoryRequest req) {
         e.setKey(req.getKey()); e.setIcon(req.getIcon()); e.setImageUrl(req.getImageUrl()); e.setSortOrder(req.getSortOrder());
         e.setStatus(req.getStatus() != null ? WingCategory.Status.valueOf(req.getStatus()) : WingCategory.Status.ACTIVE);
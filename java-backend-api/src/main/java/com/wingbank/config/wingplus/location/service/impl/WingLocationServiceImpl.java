@@ -1,6 +1,8 @@
 package com.wingbank.config.wingplus.location.service.impl;
 
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
 import com.wingbank.config.wingplus.location.dto.WingLocationRequest;
 import com.wingbank.config.wingplus.location.dto.WingLocationResponse;
@@ -9,6 +11,7 @@ import com.wingbank.config.wingplus.location.repository.WingLocationRepository;
 import com.wingbank.config.wingplus.location.service.WingLocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
 public class WingLocationServiceImpl implements WingLocationService {
 
     private final WingLocationRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override @Transactional(readOnly = true)
     public PagedResponse<WingLocationResponse> getAll(String search, String status, int page, int size) {
@@ -37,6 +41,7 @@ public class WingLocationServiceImpl implements WingLocationService {
         WingLocation e = new WingLocation();
         e.setName(req.getName()); e.setIcon(req.getIcon()); e.setSortOrder(req.getSortOrder());
         e.setStatus(req.getStatus() != null ? WingLocation.Status.valueOf(req.getStatus()) : WingLocation.Status.ACTIVE);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -45,6 +50,7 @@ public class WingLocationServiceImpl implements WingLocationService {
         WingLocation e = findOrThrow(id);
         e.setName(req.getName()); e.setIcon(req.getIcon()); e.setSortOrder(req.getSortOrder());
         if (req.getStatus() != null) e.setStatus(WingLocation.Status.valueOf(req.getStatus()));
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -53,6 +59,7 @@ public class WingLocationServiceImpl implements WingLocationService {
         WingLocation e = findOrThrow(id);
         e.setDeleted(true);
         repository.save(e);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
     }
 
     @Override @Transactional(readOnly = true)
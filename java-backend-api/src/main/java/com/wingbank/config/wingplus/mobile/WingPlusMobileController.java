@@ -1,16 +1,12 @@
 package com.wingbank.config.wingplus.mobile;
 
 import com.wingbank.config.common.dto.ApiResponse;
-import com.wingbank.config.wingplus.banner.entity.WingBanner;
-import com.wingbank.config.wingplus.banner.entity.WingBannerTranslation;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.web.VersionedResponse;
 import com.wingbank.config.wingplus.banner.repository.WingBannerRepository;
-import com.wingbank.config.wingplus.category.entity.WingCategory;
-import com.wingbank.config.wingplus.category.entity.WingCategoryTranslation;
 import com.wingbank.config.wingplus.category.repository.WingCategoryRepository;
 import com.wingbank.config.wingplus.location.entity.WingLocation;
 import com.wingbank.config.wingplus.location.repository.WingLocationRepository;
-import com.wingbank.config.wingplus.wingservice.entity.WingService;
-import com.wingbank.config.wingplus.wingservice.entity.WingServiceTranslation;
 import com.wingbank.config.wingplus.wingservice.repository.WingServiceRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,11 +23,10 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/mobile/wing-plus")
 @Tag(name = "Wing+ Mobile API")
+@VersionedResponse(ConfigDataset.WING_PLUS)
 @RequiredArgsConstructor
 public class WingPlusMobileController {
 
-    private static final String FALLBACK = "en";
-
     private final WingLocationRepository locationRepository;
     private final WingCategoryRepository categoryRepository;
     private final WingServiceRepository serviceRepository;
@@ -59,17 +54,13 @@ public class WingPlusMobileController {
     @Operation(summary = "Get all active banners (localized)")
     public ResponseEntity<ApiResponse<List<BannerDto>>> getBanners(
             @RequestParam(defaultValue = "en") String lang) {
-        List<BannerDto> data = bannerRepository
-                .findByStatusOrderBySortOrder(WingBanner.Status.ACTIVE)
+        List<BannerDto> data = bannerRepository.findActiveForMobile(lang)
                 .stream()
-                .map(b -> {
-                    WingBannerTranslation t = pickBannerTranslation(b.getTranslations(), lang);
-                    return BannerDto.builder()
-                            .id(b.getId())
-                            .imageUrl(t != null ? t.getImageUrl() : null)
-                            .linkUrl(b.getLinkUrl())
-                            .sortOrder(b.getSortOrder()).build();
-                })
+                .map(b -> BannerDto.builder()
+                        .id(b.getId())
+                        .imageUrl(b.getImageUrl())
+                        .linkUrl(b.getLinkUrl())
+                        .sortOrder(b.getSortOrder()).build())
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
@@ -80,17 +71,13 @@ public class WingPlusMobileController {
     @Operation(summary = "Get all active categories (localized)")
     public ResponseEntity<ApiResponse<List<CategoryDto>>> getCategories(
             @RequestParam(defaultValue = "en") String lang) {
-        List<CategoryDto> data = categoryRepository
-                .findByStatusOrderBySortOrder(WingCategory.Status.ACTIVE)
+        List<CategoryDto> data = categoryRepository.findActiveForMobile(lang)
                 .stream()
-                .map(c -> {
-                    WingCategoryTranslation t = pickCategoryTranslation(c.getTranslations(), lang);
-                    return CategoryDto.builder()
-                            .id(c.getId()).key(c.getKey()).icon(c.getIcon()).imageUrl(c.getImageUrl())
-                            .name(t != null ? t.getName() : c.getKey())
-                            .displayName(t != null ? t.getDisplayName() : c.getKey())
-                            .sortOrder(c.getSortOrder()).build();
-                })
+                .map(c -> CategoryDto.builder()
+                        .id(c.getId()).key(c.getKey()).icon(c.getIcon()).imageUrl(c.getImageUrl())
+                        .name(c.getName())
+                        .displayName(c.getDisplayName())
+                        .sortOrder(c.getSortOrder()).build())
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
@@ -102,17 +89,13 @@ public class WingPlusMobileController {
     public ResponseEntity<ApiResponse<List<ServiceDto>>> getCategoryServices(
             @PathVariable UUID id,
             @RequestParam(defaultValue = "en") String lang) {
-        List<ServiceDto> data = serviceRepository
-                .findByCategoryIdAndStatusOrderBySortOrder(id, WingService.Status.ACTIVE)
+        List<ServiceDto> data = serviceRepository.findActiveForMobileByCategory(id, lang)
                 .stream()
-                .map(s -> {
-                    WingServiceTranslation t = pickServiceTranslation(s.getTranslations(), lang);
-                    return ServiceDto.builder()
-                            .id(s.getId()).icon(s.getIcon()).imageUrl(s.getImageUrl())
-                            .title(t != null ? t.getTitle() : null)
-                            .description(t != null ? t.getDescription() : null)
-                            .sortOrder(s.getSortOrder()).build();
-                })
+                .map(s -> ServiceDto.builder()
+                        .id(s.getId()).icon(s.getIcon()).imageUrl(s.getImageUrl())
+                        .title(s.getTitle())
+                        .description(s.getDescription())
+                        .sortOrder(s.getSortOrder()).build())
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
@@ -123,10 +106,14 @@ public class WingPlusMobileController {
     @Operation(summary = "Get all active partners (localized)")
     public ResponseEntity<ApiResponse<List<PartnerDto>>> getPartners(
             @RequestParam(defaultValue = "en") String lang) {
-        List<PartnerDto> data = serviceRepository
-                .findByStatusOrderBySortOrder(WingService.Status.ACTIVE)
+        List<PartnerDto> data = serviceRepository.findActiveForMobile(lang)
                 .stream()
-                .map(s -> mapToPartnerDto(s, lang))
+                .map(s -> PartnerDto.builder()
+                        .id(s.getId()).icon(s.getIcon()).imageUrl(s.getImageUrl())
+                        .isPopular(s.getIsPopular()).isNew(s.getIsNew())
+                        .name(s.getTitle())
+                        .description(s.getDescription())
+                        .sortOrder(s.getSortOrder()).build())
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
@@ -138,22 +125,17 @@ public class WingPlusMobileController {
     public ResponseEntity<ApiResponse<List<PopularPartnerDto>>> getPopularPartners(
             @RequestParam(defaultValue = "en") String lang,
             @RequestParam(required = false) UUID locationId) {
-        List<WingService> services = locationId != null
-                ? serviceRepository.findByIsPopularAndStatusAndLocationIdOrderByPopularSortOrder(true, WingService.Status.ACTIVE, locationId)
-                : serviceRepository.findByIsPopularAndStatusOrderByPopularSortOrder(true, WingService.Status.ACTIVE);
-        List<PopularPartnerDto> data = services.stream()
-                .map(s -> {
-                    WingServiceTranslation t = pickServiceTranslation(s.getTranslations(), lang);
-                    return PopularPartnerDto.builder()
-                            .id(s.getId())
-                            .icon(s.getIcon()).imageUrl(s.getImageUrl())
-                            .name(t != null ? t.getTitle() : null)
-                            .description(t != null ? t.getDescription() : null)
-                            .popularEmoji(s.getPopularEmoji())
-                            .popularBgColor(s.getPopularBgColor())
-                            .popularBorderColor(s.getPopularBorderColor())
-                            .popularSortOrder(s.getPopularSortOrder()).build();
-                })
+        List<PopularPartnerDto> data = serviceRepository.findPopularForMobile(locationId, lang)
+                .stream()
+                .map(s -> PopularPartnerDto.builder()
+                        .id(s.getId())
+                        .icon(s.getIcon()).imageUrl(s.getImageUrl())
+                        .name(s.getTitle())
+                        .description(s.getDescription())
+                        .popularEmoji(s.getPopularEmoji())
+                        .popularBgColor(s.getPopularBgColor())
+                        .popularBorderColor(s.getPopularBorderColor())
+                        .popularSortOrder(s.getPopularSortOrder()).build())
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
@@ -165,59 +147,21 @@ public class WingPlusMobileController {
     public ResponseEntity<ApiResponse<List<NewPartnerDto>>> getNewPartners(
             @RequestParam(defaultValue = "en") String lang,
             @RequestParam(required = false) UUID locationId) {
-        List<WingService> services = locationId != null
-                ? serviceRepository.findByIsNewAndStatusAndLocationIdOrderByNewSortOrder(true, WingService.Status.ACTIVE, locationId)
-                : serviceRepository.findByIsNewAndStatusOrderByNewSortOrder(true, WingService.Status.ACTIVE);
-        List<NewPartnerDto> data = services.stream()
-                .map(s -> {
-                    WingServiceTranslation t = pickServiceTranslation(s.getTranslations(), lang);
-                    return NewPartnerDto.builder()
-                            .id(s.getId())
-                            .icon(s.getIcon()).imageUrl(s.getImageUrl())
-                            .name(t != null ? t.getTitle() : null)
-                            .description(t != null ? t.getDescription() : null)
-                            .newBgColor(s.getNewBgColor())
-                            .newBorderColor(s.getNewBorderColor())
-                            .newBadge(s.getNewBadge())
-                            .newSortOrder(s.getNewSortOrder()).build();
-                })
+        List<NewPartnerDto> data = serviceRepository.findNewForMobile(locationId, lang)
+                .stream()
+                .map(s -> NewPartnerDto.builder()
+                        .id(s.getId())
+                        .icon(s.getIcon()).imageUrl(s.getImageUrl())
+                        .name(s.getTitle())
+                        .description(s.getDescription())
+                        .newBgColor(s.getNewBgColor())
+                        .newBorderColor(s.getNewBorderColor())
+                        .newBadge(s.getNewBadge())
+                        .newSortOrder(s.getNewSortOrder()).build())
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
-    // ── Helpers ───────────────────────────────────────────────────────────────
-
-    private PartnerDto mapToPartnerDto(WingService s, String lang) {
-        WingServiceTranslation t = pickServiceTranslation(s.getTranslations(), lang);
-        return PartnerDto.builder()
-                .id(s.getId()).icon(s.getIcon()).imageUrl(s.getImageUrl())
-                .isPopular(s.isPopular()).isNew(s.isNew())
-                .name(t != null ? t.getTitle() : null)
-                .description(t != null ? t.getDescription() : null)
-                .sortOrder(s.getSortOrder()).build();
-    }
-
-    private WingBannerTranslation pickBannerTranslation(List<WingBannerTranslation> list, String lang) {
-        if (list == null || list.isEmpty()) return null;
-        return list.stream().filter(t -> t.getLanguageCode().equals(lang)).findFirst()
-                .orElseGet(() -> list.stream().filter(t -> t.getLanguageCode().equals(FALLBACK)).findFirst()
-                        .orElse(list.get(0)));
-    }
-
-    private WingCategoryTranslation pickCategoryTranslation(List<WingCategoryTranslation> list, String lang) {
-        if (list == null || list.isEmpty()) return null;
-        return list.stream().filter(t -> t.getLanguageCode().equals(lang)).findFirst()
-                .orElseGet(() -> list.stream().filter(t -> t.getLanguageCode().equals(FALLBACK)).findFirst()
-                        .orElse(list.get(0)));
-    }
-
-    private WingServiceTranslation pickServiceTranslation(List<WingServiceTranslation> list, String lang) {
-        if (list == null || list.isEmpty()) return null;
-        return list.stream().filter(t -> t.getLanguageCode().equals(lang)).findFirst()
-                .orElseGet(() -> list.stream().filter(t -> t.getLanguageCode().equals(FALLBACK)).findFirst()
-                        .orElse(list.get(0)));
-    }
-
     // ── Mobile DTOs ───────────────────────────────────────────────────────────
 
     @Data @Builder public static class LocationDto {
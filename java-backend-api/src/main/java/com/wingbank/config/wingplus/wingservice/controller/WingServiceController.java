@@ -1,6 +1,8 @@
 package com.wingbank.config.wingplus.wingservice.controller;
 
 import com.wingbank.config.common.dto.ApiResponse;
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceRequest;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceResponse;
@@ -13,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -51,6 +54,12 @@ public class WingServiceController {
         return ResponseEntity.ok(ApiResponse.success("Partner updated", service.update(id, req)));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('WING_SERVICE_CREATE') and hasAuthority('WING_SERVICE_UPDATE')")
+    public ResponseEntity<ApiResponse<BulkResult>> bulkUpsert(@RequestBody List<BulkUpsertItem<WingServiceRequest>> items) {
+        return ResponseEntity.ok(ApiResponse.success("Partners upserted", service.bulkUpsert(items)));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('WING_SERVICE_DELETE')")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable UUID id) {
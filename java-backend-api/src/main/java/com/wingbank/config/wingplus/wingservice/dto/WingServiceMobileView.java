@@ -0,0 +1,23 @@
+package com.wingbank.config.wingplus.wingservice.dto;
+
+import java.util.UUID;
+
+/** Active service with its title and description already resolved to one language. */
+public interface WingServiceMobileView {
+    UUID getId();
+    String getIcon();
+    String getImageUrl();
+    boolean getIsPopular();
+    boolean getIsNew();
+    String getTitle();
+    String getDescription();
+    int getSortOrder();
+    int getPopularSortOrder();
+    String getPopularEmoji();
+    String getPopularBgColor();
+    String getPopularBorderColor();
+    int getNewSortOrder();
+    String getNewBgColor();
+    String getNewBorderColor();
+    String getNewBadge();
+}
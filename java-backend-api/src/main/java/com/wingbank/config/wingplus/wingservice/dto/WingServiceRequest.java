@@ -1,28 +1,30 @@
 package com.wingbank.config.wingplus.wingservice.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import java.util.Map;
 import java.util.UUID;
 @Data
 public class WingServiceRequest {
     private UUID locationId;
-    private String icon;
+    @Size(max = 50) private String icon;
     private String imageUrl;
     @JsonProperty("isPopular") private boolean isPopular;
     @JsonProperty("isNew") private boolean isNew;
     private int sortOrder;
     private String status;
-    private Map<String, WingServiceTranslationData> translations;
+    private Map<@Size(max = 10) String, @Valid WingServiceTranslationData> translations;
 
     // Popular Partners display config
     private int popularSortOrder;
-    private String popularEmoji;
-    private String popularBgColor;
-    private String popularBorderColor;
+    @Size(max = 10) private String popularEmoji;
+    @Size(max = 20) private String popularBgColor;
+    @Size(max = 20) private String popularBorderColor;
 
     // New Partners display config
     private int newSortOrder;
-    private String newBgColor;
-    private String newBorderColor;
-    private String newBadge;
+    @Size(max = 20) private String newBgColor;
+    @Size(max = 20) private String newBorderColor;
+    @Size(max = 30) private String newBadge;
 }
@@ -1,7 +1,8 @@
 package com.wingbank.config.wingplus.wingservice.dto;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 @Data
 public class WingServiceTranslationData {
-    private String title;
+    @Size(max = 255) private String title;
     private String description;
 }
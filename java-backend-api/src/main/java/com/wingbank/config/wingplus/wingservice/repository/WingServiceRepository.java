@@ -1,31 +1,51 @@
 package com.wingbank.config.wingplus.wingservice.repository;
 
+import com.wingbank.config.wingplus.wingservice.dto.WingServiceMobileView;
 import com.wingbank.config.wingplus.wingservice.entity.WingService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface WingServiceRepository extends JpaRepository<WingService, UUID> {
 
-    List<WingService> findByStatusOrderBySortOrder(WingService.Status status);
+    /** Bulk upsert targets with their translations, in one statement. */
+    @EntityGraph(attributePaths = "translations")
+    List<WingService> findByIdIn(Collection<UUID> ids);
 
-    List<WingService> findByCategoryIdAndStatusOrderBySortOrder(UUID categoryId, WingService.Status status);
+    /**
+     * Active services joined to one translation row: the requested language, else English,
+     * else any language. Shared by the mobile projection queries below.
+     */
+    String MOBILE_VIEW_SELECT = "SELECT s.id AS \"id\", s.icon AS \"icon\", s.image_url AS \"imageUrl\", " +
+           "s.is_popular AS \"isPopular\", s.is_new AS \"isNew\", " +
+           "t.title AS \"title\", t.description AS \"description\", s.sort_order AS \"sortOrder\", " +
+           "s.popular_sort_order AS \"popularSortOrder\", s.popular_emoji AS \"popularEmoji\", " +
+           "s.popular_bg_color AS \"popularBgColor\", s.popular_border_color AS \"popularBorderColor\", " +
+           "s.new_sort_order AS \"newSortOrder\", s.new_bg_color AS \"newBgColor\", " +
+           "s.new_border_color AS \"newBorderColor\", s.new_badge AS \"newBadge\" " +
+           "FROM wing_services s " +
+           "LEFT JOIN LATERAL (SELECT st.title, st.description FROM wing_service_translations st " +
+           "WHERE st.service_id = s.id " +
+           "ORDER BY st.language_code = CAST(:lang AS TEXT) DESC, st.language_code = 'en' DESC, st.language_code " +
+           "LIMIT 1) t ON true " +
+           "WHERE s.deleted = false AND s.status = 'ACTIVE' ";
 
+    // Translations are fetched in the same statement
+    @EntityGraph(attributePaths = "translations")
     List<WingService> findByIsPopularAndStatusOrderByPopularSortOrder(boolean isPopular, WingService.Status status);
 
-    List<WingService> findByIsPopularAndStatusAndLocationIdOrderByPopularSortOrder(boolean isPopular, WingService.Status status, UUID locationId);
-
+    @EntityGraph(attributePaths = "translations")
     List<WingService> findByIsNewAndStatusOrderByNewSortOrder(boolean isNew, WingService.Status status);
 
-    List<WingService> findByIsNewAndStatusAndLocationIdOrderByNewSortOrder(boolean isNew, WingService.Status status, UUID locationId);
-
     @Query(value = "SELECT * FROM wing_services WHERE deleted = false " +
            "AND (:status IS NULL OR status = CAST(:status AS TEXT)) " +
            "ORDER BY sort_order",
@@ -49,4 +69,26 @@ public interface WingServiceRepository extends JpaRepository<WingService, UUID>
            "AND (:status IS NULL OR status = CAST(:status AS TEXT))",
            nativeQuery = true)
     Page<WingService> findAllNewWithFilters(@Param("status") String status, Pageable pageable);
+
+    @Query(value = MOBILE_VIEW_SELECT + "ORDER BY s.sort_order", nativeQuery = true)
+    List<WingServiceMobileView> findActiveForMobile(@Param("lang") String lang);
+
+    @Query(value = MOBILE_VIEW_SELECT + "AND s.category_id = :categoryId ORDER BY s.sort_order",
+           nativeQuery = true)
+    List<WingServiceMobileView> findActiveForMobileByCategory(@Param("categoryId") UUID categoryId,
+                                                              @Param("lang") String lang);
+
+    @Query(value = MOBILE_VIEW_SELECT + "AND s.is_popular = true " +
+           "AND (CAST(:locationId AS UUID) IS NULL OR s.location_id = CAST(:locationId AS UUID)) " +
+           "ORDER BY s.popular_sort_order",
+           nativeQuery = true)
+    List<WingServiceMobileView> findPopularForMobile(@Param("locationId") UUID locationId,
+                                                     @Param("lang") String lang);
+
+    @Query(value = MOBILE_VIEW_SELECT + "AND s.is_new = true " +
+           "AND (CAST(:locationId AS UUID) IS NULL OR s.location_id = CAST(:locationId AS UUID)) " +
+           "ORDER BY s.new_sort_order",
+           nativeQuery = true)
+    List<WingServiceMobileView> findNewForMobile(@Param("locationId") UUID locationId,
+                                                 @Param("lang") String lang);
 }
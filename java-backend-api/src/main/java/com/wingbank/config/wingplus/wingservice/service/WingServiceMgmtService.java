@@ -1,4 +1,6 @@
 package com.wingbank.config.wingplus.wingservice.service;
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceRequest;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceResponse;
@@ -10,6 +12,7 @@ public interface WingServiceMgmtService {
     WingServiceResponse create(WingServiceRequest request);
     WingServiceResponse update(UUID id, WingServiceRequest request);
     void delete(UUID id);
+    BulkResult bulkUpsert(List<BulkUpsertItem<WingServiceRequest>> items);
     List<WingServiceResponse> getPopularPartners();
     List<WingServiceResponse> getNewPartners();
 }
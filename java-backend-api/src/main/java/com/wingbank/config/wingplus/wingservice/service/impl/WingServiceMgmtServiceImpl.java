@@ -1,7 +1,13 @@
 package com.wingbank.config.wingplus.wingservice.service.impl;
 
+import com.wingbank.config.common.dto.BulkResult;
+import com.wingbank.config.common.dto.BulkUpsertItem;
 import com.wingbank.config.common.dto.PagedResponse;
+import com.wingbank.config.common.event.ConfigChangedEvent;
+import com.wingbank.config.common.event.ConfigDataset;
+import com.wingbank.config.common.exception.BadRequestException;
 import com.wingbank.config.common.exception.ResourceNotFoundException;
+import com.wingbank.config.common.util.BulkUpsert;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceRequest;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceResponse;
 import com.wingbank.config.wingplus.wingservice.dto.WingServiceTranslationData;
@@ -9,8 +15,10 @@ import com.wingbank.config.wingplus.wingservice.entity.WingService;
 import com.wingbank.config.wingplus.wingservice.entity.WingServiceTranslation;
 import com.wingbank.config.wingplus.wingservice.repository.WingServiceRepository;
 import com.wingbank.config.wingplus.wingservice.service.WingServiceMgmtService;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -23,6 +31,8 @@ import java.util.stream.Collectors;
 public class WingServiceMgmtServiceImpl implements WingServiceMgmtService {
 
     private final WingServiceRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override @Transactional(readOnly = true)
     public PagedResponse<WingServiceResponse> getAll(String status, Boolean isPopular, Boolean isNew, int page, int size) {
@@ -44,6 +54,7 @@ public class WingServiceMgmtServiceImpl implements WingServiceMgmtService {
     public WingServiceResponse create(WingServiceRequest req) {
         WingService e = new WingService();
         applyFields(e, req);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -51,6 +62,7 @@ public class WingServiceMgmtServiceImpl implements WingServiceMgmtService {
     public WingServiceResponse update(UUID id, WingServiceRequest req) {
         WingService e = findOrThrow(id);
         applyFields(e, req);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
         return toResponse(repository.save(e));
     }
 
@@ -59,6 +71,7 @@ public class WingServiceMgmtServiceImpl implements WingServiceMgmtService {
         WingService e = findOrThrow(id);
         e.setDeleted(true);
         repository.save(e);
+        eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
     }
 
     @Override @Transactional(readOnly = true)
@@ -73,6 +86,24 @@ public class WingServiceMgmtServiceImpl implements WingServiceMgmtService {
                 .stream().map(this::toResponse).collect(Collectors.toList());
     }
 
+    @Override @Transactional
+    public BulkResult bulkUpsert(List<BulkUpsertItem<WingServiceRequest>> items) {
+        BulkResult result = BulkUpsert.run(items, validator, repository::findByIdIn, WingService::new,
+                (id, req) -> checkStatus(req.getStatus()), this::applyFields, repository::saveAll);
+        if (result.getFailed() < result.getTotal())
+            eventPublisher.publishEvent(new ConfigChangedEvent(ConfigDataset.WING_PLUS));
+        return result;
+    }
+
+    private static void checkStatus(String status) {
+        if (status == null) return;
+        try {
+            WingService.Status.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid status: " + status);
+        }
+    }
+
     private void applyFields(WingService e, WingServiceRequest req) {
         e.setLocationId(req.getLocationId());
         e.setIcon(req.getIcon()); e.setImageUrl(req.getImageUrl());
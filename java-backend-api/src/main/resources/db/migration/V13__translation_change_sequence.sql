@@ -0,0 +1,52 @@
+-- Monotonic change sequence for incremental mobile translation sync
+CREATE SEQUENCE translation_change_seq;
+
+ALTER TABLE translations ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('translation_change_seq');
+
+CREATE INDEX idx_translations_change_seq ON translations(change_seq);
+
+-- Keys that stopped being visible under a (key, platform) pair: soft deletes,
+-- hard deletes and key/platform renames
+CREATE TABLE translation_tombstones (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    key VARCHAR(255) NOT NULL,
+    platform VARCHAR(20) NOT NULL,
+    change_seq BIGINT NOT NULL DEFAULT nextval('translation_change_seq'),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_translation_tombstones_change_seq ON translation_tombstones(change_seq);
+
+CREATE OR REPLACE FUNCTION translations_track_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        IF NOT OLD.deleted THEN
+            INSERT INTO translation_tombstones (key, platform) VALUES (OLD.key, OLD.platform);
+        END IF;
+        RETURN OLD;
+    END IF;
+
+    IF NOT OLD.deleted AND (NEW.deleted OR NEW.key <> OLD.key OR NEW.platform IS DISTINCT FROM OLD.platform) THEN
+        INSERT INTO translation_tombstones (key, platform) VALUES (OLD.key, OLD.platform);
+    END IF;
+    NEW.change_seq := nextval('translation_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translations_track_change
+    BEFORE UPDATE OR DELETE ON translations
+    FOR EACH ROW EXECUTE FUNCTION translations_track_change();
+
+-- A value edit is a change of its parent translation
+CREATE OR REPLACE FUNCTION translation_values_track_change() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE translations SET change_seq = nextval('translation_change_seq')
+    WHERE id = CASE WHEN TG_OP = 'DELETE' THEN OLD.translation_id ELSE NEW.translation_id END;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translation_values_track_change
+    AFTER INSERT OR UPDATE OR DELETE ON translation_values
+    FOR EACH ROW EXECUTE FUNCTION translation_values_track_change();
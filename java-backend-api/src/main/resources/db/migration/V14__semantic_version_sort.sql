@@ -0,0 +1,21 @@
+-- Sortable integer form of "major.minor.patch" version strings (see SemanticVersion).
+-- VARCHAR comparison put "10.0" before "9.0".
+CREATE OR REPLACE FUNCTION semver_part(core TEXT, idx INT) RETURNS BIGINT AS $$
+    SELECT LEAST(COALESCE(NULLIF(split_part(core, '.', idx), '')::NUMERIC, 0), 999999)::BIGINT
+$$ LANGUAGE SQL IMMUTABLE STRICT;
+
+CREATE OR REPLACE FUNCTION semver_sort_key(version TEXT) RETURNS BIGINT AS $$
+    SELECT semver_part(core, 1) * 1000000000000 + semver_part(core, 2) * 1000000 + semver_part(core, 3)
+    FROM (SELECT regexp_replace(regexp_replace(lower(trim(version)), '^v', ''), '[^0-9.].*$', '') AS core) v
+$$ LANGUAGE SQL IMMUTABLE STRICT;
+
+ALTER TABLE translations
+    ADD COLUMN version_sort BIGINT GENERATED ALWAYS AS (semver_sort_key(version)) STORED;
+ALTER TABLE global_configs
+    ADD COLUMN version_sort BIGINT GENERATED ALWAYS AS (semver_sort_key(version)) STORED;
+ALTER TABLE app_releases
+    ADD COLUMN version_sort BIGINT GENERATED ALWAYS AS (semver_sort_key(version)) STORED;
+
+CREATE INDEX idx_translations_platform_version_sort ON translations(platform, version_sort);
+CREATE INDEX idx_global_configs_platform_version_sort ON global_configs(platform, version_sort);
+CREATE INDEX idx_app_releases_platform_version_sort ON app_releases(platform, version_sort);
@@ -0,0 +1,51 @@
+-- Monthly range partitioning of audit_logs on created_at.
+-- Partitions are named audit_logs_YYYY_MM; AuditPartitionManager creates future months
+-- and applies retention. The default partition only catches rows outside every month.
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER INDEX audit_logs_pkey RENAME TO audit_logs_legacy_pkey;
+DROP INDEX IF EXISTS idx_audit_logs_user_id;
+DROP INDEX IF EXISTS idx_audit_logs_entity_type;
+DROP INDEX IF EXISTS idx_audit_logs_created_at;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    user_id UUID,
+    user_email VARCHAR(255),
+    action VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(100),
+    entity_id VARCHAR(255),
+    old_value JSONB,
+    new_value JSONB,
+    ip_address VARCHAR(50),
+    user_agent TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_audit_logs_user_id ON audit_logs(user_id);
+CREATE INDEX idx_audit_logs_entity_type ON audit_logs(entity_type);
+CREATE INDEX idx_audit_logs_created_at ON audit_logs(created_at);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+            (SELECT MIN(created_at) FROM audit_logs_legacy), CURRENT_TIMESTAMP))::DATE;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::DATE;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_' || to_char(month_start, 'YYYY_MM'),
+                       month_start, (month_start + INTERVAL '1 month')::DATE);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, user_id, user_email, action, entity_type, entity_id,
+                        old_value, new_value, ip_address, user_agent, created_at)
+SELECT id, user_id, user_email, action, entity_type, entity_id,
+       old_value, new_value, ip_address, user_agent, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
@@ -0,0 +1,3 @@
+-- Keyset pagination walks audit_logs by (created_at DESC, id DESC)
+DROP INDEX IF EXISTS idx_audit_logs_created_at;
+CREATE INDEX idx_audit_logs_created_at_id ON audit_logs(created_at DESC, id DESC);
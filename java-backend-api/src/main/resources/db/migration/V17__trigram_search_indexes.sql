@@ -0,0 +1,29 @@
+-- Trigram GIN indexes for the admin search filters. Each index is on the same
+-- LOWER(column) expression the findAllWithFilters queries use, so
+-- "LOWER(col) LIKE '%term%'" becomes a bitmap index scan instead of a sequential scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_translations_key_trgm ON translations USING GIN (LOWER(key) gin_trgm_ops);
+CREATE INDEX idx_translation_values_value_trgm ON translation_values USING GIN (LOWER(value) gin_trgm_ops);
+
+CREATE INDEX idx_api_messages_error_code_trgm ON api_messages USING GIN (LOWER(error_code) gin_trgm_ops);
+CREATE INDEX idx_api_message_values_message_trgm ON api_message_values USING GIN (LOWER(message) gin_trgm_ops);
+
+CREATE INDEX idx_notification_templates_code_trgm ON notification_templates USING GIN (LOWER(code) gin_trgm_ops);
+CREATE INDEX idx_notification_template_values_title_trgm ON notification_template_values USING GIN (LOWER(title) gin_trgm_ops);
+
+CREATE INDEX idx_global_configs_config_key_trgm ON global_configs USING GIN (LOWER(config_key) gin_trgm_ops);
+CREATE INDEX idx_global_configs_description_trgm ON global_configs USING GIN (LOWER(description) gin_trgm_ops);
+
+CREATE INDEX idx_users_full_name_trgm ON users USING GIN (LOWER(full_name) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING GIN (LOWER(email) gin_trgm_ops);
+
+CREATE INDEX idx_roles_name_trgm ON roles USING GIN (LOWER(name) gin_trgm_ops);
+CREATE INDEX idx_roles_description_trgm ON roles USING GIN (LOWER(description) gin_trgm_ops);
+
+CREATE INDEX idx_permissions_name_trgm ON permissions USING GIN (LOWER(name) gin_trgm_ops);
+CREATE INDEX idx_permissions_module_trgm ON permissions USING GIN (LOWER(module) gin_trgm_ops);
+
+CREATE INDEX idx_audit_logs_user_email_trgm ON audit_logs USING GIN (LOWER(user_email) gin_trgm_ops);
+CREATE INDEX idx_audit_logs_action_trgm ON audit_logs USING GIN (LOWER(action) gin_trgm_ops);
+CREATE INDEX idx_audit_logs_entity_type_trgm ON audit_logs USING GIN (LOWER(entity_type) gin_trgm_ops);
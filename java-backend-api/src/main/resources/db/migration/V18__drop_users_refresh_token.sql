@@ -0,0 +1,2 @@
+-- Refresh tokens now live in Redis (RefreshTokenStore) with per-device rotation families.
+ALTER TABLE users DROP COLUMN IF EXISTS refresh_token;
@@ -0,0 +1,246 @@
+-- Full-text search for the translation and API message admin lists.
+-- One search document per parent row holds its key (weight A) and every language value
+-- (weight B). Values are indexed with the 'simple' config plus the stemming config of their
+-- language. Khmer has no word spaces, so Khmer runs are also indexed as character bigrams.
+-- Statement-level triggers keep the documents current; the GIN indexes replace the
+-- trigram indexes on the value columns from V17.
+
+-- Stemming config for a language code; languages without one only get 'simple'
+CREATE OR REPLACE FUNCTION search_config(lang TEXT) RETURNS regconfig AS $$
+    SELECT CAST(CASE split_part(lower(lang), '-', 1)
+        WHEN 'en' THEN 'english'
+        WHEN 'fr' THEN 'french'
+        WHEN 'de' THEN 'german'
+        WHEN 'es' THEN 'spanish'
+        WHEN 'pt' THEN 'portuguese'
+        WHEN 'it' THEN 'italian'
+        WHEN 'ru' THEN 'russian'
+        WHEN 'id' THEN 'indonesian'
+        ELSE 'simple' END AS regconfig)
+$$ LANGUAGE sql STABLE;
+
+-- Distinct character bigrams of every Khmer run (a one-character run yields itself)
+CREATE OR REPLACE FUNCTION khmer_bigrams(input TEXT) RETURNS TEXT[] AS $$
+    SELECT COALESCE(array_agg(DISTINCT substr(runs.run, n, 2)), '{}')
+    FROM (SELECT m[1] AS run FROM regexp_matches(COALESCE(input, ''), '([\u1780-\u17FF\u19E0-\u19FF]+)', 'g') AS m) runs
+    CROSS JOIN LATERAL generate_series(1, GREATEST(length(runs.run) - 1, 1)) AS n
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION search_value_vector(lang TEXT, value TEXT) RETURNS tsvector AS $$
+DECLARE
+    cfg regconfig := search_config(lang);
+    doc tsvector;
+BEGIN
+    IF value IS NULL THEN
+        RETURN ''::tsvector;
+    END IF;
+    doc := setweight(to_tsvector('simple', value), 'B');
+    IF cfg <> CAST('simple' AS regconfig) THEN
+        doc := doc || setweight(to_tsvector(cfg, value), 'B');
+    END IF;
+    -- Bigrams are added verbatim, bypassing the parser's word splitting
+    RETURN doc || array_to_tsvector(khmer_bigrams(value));
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+-- Prefix match on every word (as typed and English-stemmed); Khmer runs must contain all their bigrams
+CREATE OR REPLACE FUNCTION search_query(term TEXT) RETURNS tsquery AS $$
+DECLARE
+    result tsquery;
+    part tsquery;
+    word TEXT;
+    stem TEXT;
+    grams TEXT[] := khmer_bigrams(term);
+BEGIN
+    FOR word IN
+        SELECT m[1] FROM regexp_matches(lower(regexp_replace(term, '[\u1780-\u17FF\u19E0-\u19FF]+', ' ', 'g')),
+                                        '([[:alnum:]]+)', 'g') AS m
+    LOOP
+        -- Lexemes are quoted into tsquery input directly, so stop words never empty it
+        part := CAST(quote_literal(word) || ':*' AS tsquery);
+        FOR stem IN SELECT lexeme FROM unnest(to_tsvector('english', word)) LOOP
+            IF stem <> word THEN
+                part := part || CAST(quote_literal(stem) || ':*' AS tsquery);
+            END IF;
+        END LOOP;
+        result := CASE WHEN result IS NULL THEN part ELSE result && part END;
+    END LOOP;
+    IF cardinality(grams) > 0 THEN
+        part := CAST(array_to_string(ARRAY(SELECT quote_literal(g) || ':*' FROM unnest(grams) AS g), ' & ') AS tsquery);
+        result := CASE WHEN result IS NULL THEN part ELSE result && part END;
+    END IF;
+    RETURN result;
+END;
+$$ LANGUAGE plpgsql STABLE STRICT;
+
+-- HTML-escaped snippet of doc with the matches in <b>; a Khmer term is located as a substring
+CREATE OR REPLACE FUNCTION search_headline(doc TEXT, term TEXT) RETURNS TEXT AS $$
+DECLARE
+    safe TEXT := replace(replace(replace(doc, '&', '&amp;'), '<', '&lt;'), '>', '&gt;');
+    run TEXT := substring(term FROM '[\u1780-\u17FF\u19E0-\u19FF]+');
+    pos INT;
+    head INT;
+BEGIN
+    IF run IS NOT NULL THEN
+        pos := strpos(safe, run);
+        IF pos > 0 THEN
+            head := GREATEST(pos - 40, 1);
+            RETURN CASE WHEN head > 1 THEN '... ' ELSE '' END || substr(safe, head, pos - head)
+                || '<b>' || run || '</b>' || substr(safe, pos + length(run), 40)
+                || CASE WHEN pos + length(run) + 40 <= length(safe) THEN ' ...' ELSE '' END;
+        END IF;
+    END IF;
+    RETURN ts_headline('simple', safe, search_query(term),
+                       'MaxFragments=2, MaxWords=20, MinWords=5, FragmentDelimiter=" ... "');
+END;
+$$ LANGUAGE plpgsql STABLE STRICT;
+
+-- Translations
+CREATE TABLE translation_search (
+    translation_id UUID PRIMARY KEY REFERENCES translations(id) ON DELETE CASCADE,
+    document TSVECTOR NOT NULL
+);
+
+CREATE INDEX idx_translation_search_document ON translation_search USING GIN (document);
+
+CREATE OR REPLACE FUNCTION translation_search_document(p_id UUID) RETURNS tsvector AS $$
+DECLARE
+    doc tsvector;
+    v RECORD;
+BEGIN
+    SELECT setweight(to_tsvector('simple', translate(key, '._-:/', '     ')), 'A') INTO doc
+    FROM translations WHERE id = p_id;
+    FOR v IN SELECT language_code, value FROM translation_values WHERE translation_id = p_id LOOP
+        doc := doc || search_value_vector(v.language_code, v.value);
+    END LOOP;
+    RETURN doc;
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+CREATE OR REPLACE FUNCTION translation_search_refresh(ids UUID[]) RETURNS VOID AS $$
+    INSERT INTO translation_search (translation_id, document)
+    SELECT t.id, translation_search_document(t.id) FROM translations t WHERE t.id = ANY(ids)
+    ON CONFLICT (translation_id) DO UPDATE SET document = EXCLUDED.document;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION translations_search_track() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM translation_search_refresh(ARRAY(SELECT id FROM new_rows));
+    ELSE
+        PERFORM translation_search_refresh(ARRAY(
+            SELECT n.id FROM new_rows n JOIN old_rows o ON o.id = n.id WHERE n.key IS DISTINCT FROM o.key));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translations_search_insert
+    AFTER INSERT ON translations REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translations_search_track();
+
+CREATE TRIGGER trg_translations_search_update
+    AFTER UPDATE ON translations REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translations_search_track();
+
+CREATE OR REPLACE FUNCTION translation_values_search_track() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM translation_search_refresh(ARRAY(SELECT DISTINCT translation_id FROM old_rows));
+    ELSE
+        PERFORM translation_search_refresh(ARRAY(SELECT DISTINCT translation_id FROM new_rows));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translation_values_search_insert
+    AFTER INSERT ON translation_values REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translation_values_search_track();
+
+CREATE TRIGGER trg_translation_values_search_update
+    AFTER UPDATE ON translation_values REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translation_values_search_track();
+
+CREATE TRIGGER trg_translation_values_search_delete
+    AFTER DELETE ON translation_values REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translation_values_search_track();
+
+SELECT translation_search_refresh(ARRAY(SELECT id FROM translations));
+
+-- API messages
+CREATE TABLE api_message_search (
+    message_id UUID PRIMARY KEY REFERENCES api_messages(id) ON DELETE CASCADE,
+    document TSVECTOR NOT NULL
+);
+
+CREATE INDEX idx_api_message_search_document ON api_message_search USING GIN (document);
+
+CREATE OR REPLACE FUNCTION api_message_search_document(p_id UUID) RETURNS tsvector AS $$
+DECLARE
+    doc tsvector;
+    v RECORD;
+BEGIN
+    SELECT setweight(to_tsvector('simple', translate(error_code, '._-:/', '     ')), 'A') INTO doc
+    FROM api_messages WHERE id = p_id;
+    FOR v IN SELECT language_code, message FROM api_message_values WHERE message_id = p_id LOOP
+        doc := doc || search_value_vector(v.language_code, v.message);
+    END LOOP;
+    RETURN doc;
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+CREATE OR REPLACE FUNCTION api_message_search_refresh(ids UUID[]) RETURNS VOID AS $$
+    INSERT INTO api_message_search (message_id, document)
+    SELECT m.id, api_message_search_document(m.id) FROM api_messages m WHERE m.id = ANY(ids)
+    ON CONFLICT (message_id) DO UPDATE SET document = EXCLUDED.document;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION api_messages_search_track() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM api_message_search_refresh(ARRAY(SELECT id FROM new_rows));
+    ELSE
+        PERFORM api_message_search_refresh(ARRAY(
+            SELECT n.id FROM new_rows n JOIN old_rows o ON o.id = n.id WHERE n.error_code IS DISTINCT FROM o.error_code));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_api_messages_search_insert
+    AFTER INSERT ON api_messages REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION api_messages_search_track();
+
+CREATE TRIGGER trg_api_messages_search_update
+    AFTER UPDATE ON api_messages REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION api_messages_search_track();
+
+CREATE OR REPLACE FUNCTION api_message_values_search_track() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM api_message_search_refresh(ARRAY(SELECT DISTINCT message_id FROM old_rows));
+    ELSE
+        PERFORM api_message_search_refresh(ARRAY(SELECT DISTINCT message_id FROM new_rows));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_api_message_values_search_insert
+    AFTER INSERT ON api_message_values REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION api_message_values_search_track();
+
+CREATE TRIGGER trg_api_message_values_search_update
+    AFTER UPDATE ON api_message_values REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION api_message_values_search_track();
+
+CREATE TRIGGER trg_api_message_values_search_delete
+    AFTER DELETE ON api_message_values REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION api_message_values_search_track();
+
+SELECT api_message_search_refresh(ARRAY(SELECT id FROM api_messages));
+
+-- Value searches now go through the documents above
+DROP INDEX IF EXISTS idx_translation_values_value_trgm;
+DROP INDEX IF EXISTS idx_api_message_values_message_trgm;
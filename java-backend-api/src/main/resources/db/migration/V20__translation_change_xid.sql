@@ -0,0 +1,70 @@
+-- Commit-ordered sync tokens for the mobile translation delta.
+-- change_seq was drawn when a row was written, so a transaction holding a lower number could
+-- commit after a client had already synced past it. Rows now carry the id of the transaction
+-- that last changed them, and the sync token is the xmin of the reader's snapshot: every
+-- transaction below it has finished, so a row the client could not see always has
+-- change_xid >= token and is sent on the next sync. Rows committed at or after the token
+-- may be sent twice, which is harmless.
+ALTER TABLE translations ADD COLUMN change_xid XID8;
+UPDATE translations SET change_xid = pg_current_xact_id();
+ALTER TABLE translations ALTER COLUMN change_xid SET NOT NULL,
+                         ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id();
+
+ALTER TABLE translation_tombstones ADD COLUMN change_xid XID8;
+UPDATE translation_tombstones SET change_xid = pg_current_xact_id();
+ALTER TABLE translation_tombstones ALTER COLUMN change_xid SET NOT NULL,
+                                   ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id();
+
+CREATE INDEX idx_translations_change_xid ON translations(change_xid);
+CREATE INDEX idx_translation_tombstones_change_xid ON translation_tombstones(change_xid);
+
+CREATE OR REPLACE FUNCTION translations_track_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        IF NOT OLD.deleted THEN
+            INSERT INTO translation_tombstones (key, platform) VALUES (OLD.key, OLD.platform);
+        END IF;
+        RETURN OLD;
+    END IF;
+
+    IF NOT OLD.deleted AND (NEW.deleted OR NEW.key <> OLD.key OR NEW.platform IS DISTINCT FROM OLD.platform) THEN
+        INSERT INTO translation_tombstones (key, platform) VALUES (OLD.key, OLD.platform);
+    END IF;
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A value edit is a change of its parent translation; stamp each parent once per statement
+DROP TRIGGER trg_translation_values_track_change ON translation_values;
+
+CREATE OR REPLACE FUNCTION translation_values_track_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        UPDATE translations SET change_xid = pg_current_xact_id()
+        WHERE id IN (SELECT DISTINCT translation_id FROM old_rows);
+    ELSE
+        UPDATE translations SET change_xid = pg_current_xact_id()
+        WHERE id IN (SELECT DISTINCT translation_id FROM new_rows);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translation_values_track_insert
+    AFTER INSERT ON translation_values REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translation_values_track_change();
+
+CREATE TRIGGER trg_translation_values_track_update
+    AFTER UPDATE ON translation_values REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translation_values_track_change();
+
+CREATE TRIGGER trg_translation_values_track_delete
+    AFTER DELETE ON translation_values REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION translation_values_track_change();
+
+DROP INDEX idx_translations_change_seq;
+DROP INDEX idx_translation_tombstones_change_seq;
+ALTER TABLE translations DROP COLUMN change_seq;
+ALTER TABLE translation_tombstones DROP COLUMN change_seq;
+DROP SEQUENCE translation_change_seq;
@@ -0,0 +1,36 @@
+package com.wingbank.config.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=1", "'=1", "''=1", "-5%", "'-' means none", "'quoted'", "plain", "", "'"})
+    void unescapeFormulaReversesEscape(String value) {
+        assertEquals(value, Csv.unescapeFormula(Csv.escape(value)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=1", "'=1", "''=1", "-5%", "=SUM(A1,A2)", "@cmd\r\n\"x\""})
+    void escapedCellReadsBackUnchanged(String value) throws IOException {
+        String line = Csv.escape("key") + "," + Csv.escape(value) + "\r\n";
+        List<String> record = new Csv.RecordReader(new StringReader(line)).next();
+        assertEquals(value, Csv.unescapeFormula(record.get(1)));
+    }
+
+    @Test
+    void formulaCellsOpenAsText() {
+        assertEquals("'=1", Csv.escape("=1"));
+        assertEquals("''=1", Csv.escape("'=1"));
+        assertEquals("'-5%", Csv.escape("-5%"));
+        assertEquals("'quoted'", Csv.escape("'quoted'"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.wingbank.config.security.config;
+
+import com.wingbank.config.common.config.CorsConfig;
+import com.wingbank.config.security.jwt.JwtAuthenticationEntryPoint;
+import com.wingbank.config.security.jwt.JwtAuthenticationFilter;
+import com.wingbank.config.security.jwt.JwtTokenProvider;
+import com.wingbank.config.security.service.PrincipalCache;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import lombok.RequiredArgsConstructor;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Security overhead of one public {@code /api/mobile} request: the previous setup (the JWT
+ * filter registered as a servlet filter, then the full admin chain with a permitAll rule)
+ * against the current dedicated mobile chain. Only the filters run; no controller is hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MobileSecurityChainBenchmark {
+
+    private static final FilterChain TERMINAL = (request, response) -> { };
+
+    private AnnotationConfigWebApplicationContext previousContext;
+    private AnnotationConfigWebApplicationContext currentContext;
+    private FilterChainProxy previousChain;
+    private JwtAuthenticationFilter previousServletFilter;
+    private FilterChainProxy currentChain;
+
+    @Setup
+    public void setUp() {
+        previousContext = context(PreviousSecurityConfig.class);
+        previousChain = previousContext.getBean(FilterChainProxy.class);
+        previousServletFilter = previousContext.getBean(JwtAuthenticationFilter.class);
+
+        currentContext = context(SecurityConfig.class);
+        currentChain = currentContext.getBean(FilterChainProxy.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        previousContext.close();
+        currentContext.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse previous() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        previousServletFilter.doFilter(mobileRequest(), response,
+                (request, res) -> previousChain.doFilter(request, res, TERMINAL));
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse current() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        currentChain.doFilter(mobileRequest(), response, TERMINAL);
+        return response;
+    }
+
+    private static MockHttpServletRequest mobileRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/mobile/translations");
+        // DispatcherServlet is mapped to "/", so the whole path is the servlet path
+        request.setServletPath("/api/mobile/translations");
+        request.setQueryString("platform=IOS");
+        return request;
+    }
+
+    private static AnnotationConfigWebApplicationContext context(Class<?> securityConfig) {
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(Collaborators.class, CorsConfig.class, JwtAuthenticationEntryPoint.class,
+                JwtAuthenticationFilter.class, securityConfig);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class Collaborators {
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return new JwtTokenProvider("benchmark-secret-key-that-is-at-least-256-bits-long!!", 900_000, 10_000, 60);
+        }
+
+        @Bean
+        PrincipalCache principalCache() {
+            return Mockito.mock(PrincipalCache.class);
+        }
+    }
+
+    /** The admin chain as it was before the mobile chain was split out. */
+    @Configuration
+    @EnableWebSecurity
+    @RequiredArgsConstructor
+    static class PreviousSecurityConfig {
+
+        private final JwtAuthenticationFilter jwtAuthenticationFilter;
+        private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+        private final CorsConfigurationSource corsConfigurationSource;
+
+        @Bean
+        SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+            http
+                    .cors(cors -> cors.configurationSource(corsConfigurationSource))
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .authorizeHttpRequests(auth -> auth
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                            .requestMatchers("/api/auth/**").permitAll()
+                            .requestMatchers("/api/mobile/**").permitAll()
+                            .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                            .requestMatchers("/actuator/**").permitAll()
+                            .anyRequest().authenticated()
+                    )
+                    .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+            return http.build();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MobileSecurityChainBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.wingbank.config.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one bearer token: the previous filter path (a parser built and the
+ * token verified twice) against {@link JwtTokenProvider#verify} on a cold and a warm cache.
+ * Run with {@code main}; see the class-level options for the configuration used.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long!!";
+    private static final int DISTINCT_TOKENS = 1024;
+
+    private SecretKey key;
+    private JwtTokenProvider cached;
+    private JwtTokenProvider uncached;
+    private String token;
+    private String[] distinctTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        cached = new JwtTokenProvider(SECRET, 900_000, 10_000, 60);
+        uncached = new JwtTokenProvider(SECRET, 900_000, 1, 60);
+        token = cached.generateAccessToken("admin@wingbank.com");
+        cached.verify(token);
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = uncached.generateAccessToken("user" + i + "@wingbank.com");
+        }
+    }
+
+    /** validateToken then getEmailFromToken, each building its own parser. */
+    @Benchmark
+    public String previousDoubleParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    /** Always a cache miss: a one-entry cache fed a different token on every call. */
+    @Benchmark
+    public String verifyUncached() {
+        String presented = distinctTokens[next++ & (DISTINCT_TOKENS - 1)];
+        return uncached.verify(presented).orElseThrow().getSubject();
+    }
+
+    @Benchmark
+    public String verifyCached() {
+        return cached.verify(token).orElseThrow().getSubject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -8,4 +8,7 @@ export const authApi = {
 
   refresh: (data: RefreshTokenRequest) =>
     api.post<ApiResponse<LoginResponse>>('/auth/refresh', data),
+
+  logout: (data: RefreshTokenRequest) =>
+    api.post<ApiResponse<void>>('/auth/logout', data),
 };
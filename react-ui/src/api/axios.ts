@@ -20,6 +20,47 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+let refreshing: Promise<string> | null = null;
+
+function withRefreshLock(task: () => Promise<string>): Promise<string> {
+  return 'locks' in navigator ? navigator.locks.request('auth-refresh', task) : task();
+}
+
+// The server treats a refresh token presented twice as stolen and ends the session, so only
+// one refresh may be in flight: concurrent 401s in a tab share one request, and the Web Lock
+// serializes tabs. A caller whose token was already replaced just uses the new one.
+function refreshAccessToken(failedToken: string | undefined): Promise<string> {
+  if (!refreshing) {
+    refreshing = withRefreshLock(async () => {
+      const current = localStorage.getItem('accessToken');
+      if (current && current !== failedToken) {
+        return current;
+      }
+      const refreshToken = localStorage.getItem('refreshToken');
+      if (!refreshToken) {
+        throw new Error('No refresh token');
+      }
+      const response = await axios.post('/api/auth/refresh', { refreshToken });
+      const { accessToken, refreshToken: newRefreshToken } = response.data.data;
+
+      localStorage.setItem('accessToken', accessToken);
+      localStorage.setItem('refreshToken', newRefreshToken);
+      return accessToken;
+    }).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+}
+
+function endSession() {
+  // Keep the device id so the next login replaces this device's session
+  localStorage.removeItem('accessToken');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+  window.location.href = '/login';
+}
+
 // Response interceptor - handle 401 and errors
 api.interceptors.response.use(
   (response) => response,
@@ -29,26 +70,20 @@ api.interceptors.response.use(
     if (error.response?.status === 401 && !originalRequest._retry) {
       originalRequest._retry = true;
 
-      const refreshToken = localStorage.getItem('refreshToken');
-      if (refreshToken) {
+      if (localStorage.getItem('refreshToken')) {
         try {
-          const response = await axios.post('/api/auth/refresh', { refreshToken });
-          const { accessToken, refreshToken: newRefreshToken } = response.data.data;
-
-          localStorage.setItem('accessToken', accessToken);
-          localStorage.setItem('refreshToken', newRefreshToken);
+          const failedToken = String(originalRequest.headers.Authorization ?? '').replace('Bearer ', '');
+          const accessToken = await refreshAccessToken(failedToken || undefined);
 
           originalRequest.headers.Authorization = `Bearer ${accessToken}`;
           return api(originalRequest);
         } catch {
-          localStorage.clear();
-          window.location.href = '/login';
+          endSession();
           return Promise.reject(error);
         }
       }
 
-      localStorage.clear();
-      window.location.href = '/login';
+      endSession();
     }
 
     const message = error.response?.data?.message || 'An unexpected error occurred';
@@ -0,0 +1,12 @@
+const DEVICE_ID_KEY = 'deviceId';
+
+// Stable id for this browser, sent on login so the server keeps one session per device
+// and replaces it on the next login instead of piling up a new session every time.
+export function getDeviceId(): string {
+  let deviceId = localStorage.getItem(DEVICE_ID_KEY);
+  if (!deviceId) {
+    deviceId = crypto.randomUUID();
+    localStorage.setItem(DEVICE_ID_KEY, deviceId);
+  }
+  return deviceId;
+}
@@ -1,5 +1,6 @@
 import { createContext, useState, useEffect, ReactNode, useCallback } from 'react';
 import { authApi } from '../api/auth.api';
+import { getDeviceId } from '../api/device';
 import { UserInfo } from '../types/auth.types';
 import toast from 'react-hot-toast';
 
@@ -33,7 +34,7 @@ export function AuthProvider({ children }: { children: ReactNode }) {
   }, []);
 
   const login = useCallback(async (email: string, password: string) => {
-    const response = await authApi.login({ email, password });
+    const response = await authApi.login({ email, password, deviceId: getDeviceId() });
     const data = response.data.data;
 
     localStorage.setItem('accessToken', data.accessToken);
@@ -45,6 +46,11 @@ export function AuthProvider({ children }: { children: ReactNode }) {
   }, []);
 
   const logout = useCallback(() => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      // Revoke the server-side session; local state is cleared regardless
+      authApi.logout({ refreshToken }).catch(() => {});
+    }
     localStorage.removeItem('accessToken');
     localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');